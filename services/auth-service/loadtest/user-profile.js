@@ -0,0 +1,55 @@
+// k6 page-load test: GET /api/auth/user with a valid token, the way the frontend calls it
+// on every navigation.
+//
+//   k6 run -e BASE_URL=http://localhost:8081 -e USERS=500 loadtest/user-profile.js
+//
+// setup() registers USERS accounts and logs each in once. Compare a run against a cold
+// service with one where the cache is warm, or with auth.profile-cache.local.ttl=0s and
+// the Redis keys flushed between runs: watch http_req_duration, Mongo opcounters
+// (db.serverStatus().opcounters.query) and auth_user_profile_lookups_total{source}.
+// With a warm cache only source="mongo" misses should reach Mongo.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const USERS = parseInt(__ENV.USERS || '500', 10);
+const PASSWORD = 'LoadTest#12345';
+
+export const options = {
+  setupTimeout: '10m',
+  scenarios: {
+    pageLoads: {
+      executor: 'constant-arrival-rate',
+      rate: 2000,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+    },
+  },
+};
+
+export function setup() {
+  const params = { headers: { 'Content-Type': 'application/json' } };
+  const run = Date.now();
+  const tokens = [];
+  for (let i = 0; i < USERS; i++) {
+    const email = `profile-${run}-${i}@loadtest.local`;
+    http.post(`${BASE_URL}/api/auth/register`,
+      JSON.stringify({ fullName: `Load Test ${i}`, email, password: PASSWORD }), params);
+    const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ email, password: PASSWORD }), params);
+    if (res.status === 200) {
+      tokens.push(res.json('token'));
+    }
+  }
+  return { tokens };
+}
+
+export default function (data) {
+  const token = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+  const res = http.get(`${BASE_URL}/api/auth/user`, {
+    headers: { Authorization: `Bearer ${token}` },
+    tags: { name: 'user' },
+  });
+  check(res, { 'is 200': (r) => r.status === 200 && r.json('passwordHash') === undefined });
+}
@@ -0,0 +1,72 @@
+// k6 comparison of POST /api/auth/verify:batch against one POST /api/auth/verify per token,
+// the way a fan-out job checks a list of tokens.
+//
+//   k6 run -e BASE_URL=http://localhost:8081 -e BATCH=100 loadtest/verify-batch.js
+//
+// Both scenarios verify BATCH tokens per iteration, one after the other. Compare
+// iterations/s and iteration_duration per scenario: tokens verified per second is
+// BATCH x iterations/s. auth_token_verify_seconds{result} shows the server-side cost,
+// which is the same for both; the difference is request overhead.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const BATCH = parseInt(__ENV.BATCH || '100', 10);
+const USERS = parseInt(__ENV.USERS || '50', 10);
+const PASSWORD = 'LoadTest#12345';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+  setupTimeout: '5m',
+  scenarios: {
+    single: {
+      executor: 'constant-vus',
+      vus: 20,
+      duration: '1m',
+      exec: 'single',
+    },
+    batch: {
+      executor: 'constant-vus',
+      vus: 20,
+      duration: '1m',
+      startTime: '1m10s',
+      exec: 'batch',
+    },
+  },
+};
+
+export function setup() {
+  const run = Date.now();
+  const tokens = [];
+  for (let i = 0; i < USERS; i++) {
+    const email = `verify-${run}-${i}@loadtest.local`;
+    http.post(`${BASE_URL}/api/auth/register`,
+      JSON.stringify({ fullName: `Load Test ${i}`, email, password: PASSWORD }), JSON_HEADERS);
+    const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ email, password: PASSWORD }), JSON_HEADERS);
+    if (res.status === 200) {
+      tokens.push(res.json('token'));
+    }
+  }
+  return { tokens };
+}
+
+function pick(tokens) {
+  const picked = [];
+  for (let i = 0; i < BATCH; i++) {
+    picked.push(tokens[Math.floor(Math.random() * tokens.length)]);
+  }
+  return picked;
+}
+
+export function single(data) {
+  for (const token of pick(data.tokens)) {
+    const res = http.post(`${BASE_URL}/api/auth/verify`, JSON.stringify({ token }), JSON_HEADERS);
+    check(res, { 'is valid': (r) => r.status === 200 && r.json('valid') === true });
+  }
+}
+
+export function batch(data) {
+  const res = http.post(`${BASE_URL}/api/auth/verify:batch`,
+    JSON.stringify({ tokens: pick(data.tokens) }), JSON_HEADERS);
+  check(res, { 'all valid': (r) => r.status === 200 && r.json('invalid') === 0 });
+}
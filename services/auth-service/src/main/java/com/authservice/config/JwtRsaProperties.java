@@ -0,0 +1,43 @@
+package com.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RSA key ring for RS256 tokens. Tokens are signed with {@code active-kid}; every key in
+ * {@code keys} is published in the JWKS, so a retired key only needs its public half and
+ * should stay listed until the last token it signed has expired.
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt.rsa")
+public class JwtRsaProperties {
+
+    private String activeKid;
+    private List<KeyPair> keys = new ArrayList<>();
+
+    public String getActiveKid() { return activeKid; }
+    public void setActiveKid(String activeKid) { this.activeKid = activeKid; }
+
+    public List<KeyPair> getKeys() { return keys; }
+    public void setKeys(List<KeyPair> keys) { this.keys = keys; }
+
+    public static class KeyPair {
+        private String kid;
+        /** PKCS#8 PEM; only required for the active key. */
+        private String privateKey;
+        /** X.509 SubjectPublicKeyInfo PEM. */
+        private String publicKey;
+
+        public String getKid() { return kid; }
+        public void setKid(String kid) { this.kid = kid; }
+
+        public String getPrivateKey() { return privateKey; }
+        public void setPrivateKey(String privateKey) { this.privateKey = privateKey; }
+
+        public String getPublicKey() { return publicKey; }
+        public void setPublicKey(String publicKey) { this.publicKey = publicKey; }
+    }
+}
@@ -2,12 +2,23 @@ package com.authservice.controller;
 
 import com.authservice.dto.LoginRequest;
 import com.authservice.dto.RegisterRequest;
-import com.authservice.model.User;
+import com.authservice.dto.UserProfile;
+import com.authservice.exception.DuplicateFieldException;
+import com.authservice.exception.HashingOverloadedException;
+import com.authservice.exception.InvalidRefreshTokenException;
 import com.authservice.service.AuthService;
+import com.authservice.service.LoginThrottle;
+import com.authservice.service.TokenPair;
+import com.authservice.service.TokenVerification;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -17,26 +28,104 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Value("${auth.verify-batch.max-tokens:500}")
+    private int maxBatchTokens;
+
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
         try {
             String userId = authService.registerUser(request);
             return ResponseEntity.ok(Map.of("userId", userId, "message", "User registered successfully"));
+        } catch (DuplicateFieldException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage(), "field", e.getField()));
+        } catch (HashingOverloadedException e) {
+            return overloaded(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
+    @GetMapping("/email-available")
+    public ResponseEntity<?> emailAvailable(@RequestParam String email, HttpServletRequest httpRequest) {
+        // Unauthenticated and answers "is this email registered", so enumeration is rate limited
+        long retryAfter = loginThrottle.tryAcquireLookup(clientIp(httpRequest));
+        if (retryAfter > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body(Map.of("error", "Too many requests, please retry later"));
+        }
+        return ResponseEntity.ok(Map.of("email", email, "available", authService.isEmailAvailable(email)));
+    }
+
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // Checked before any Mongo lookup or hashing, so floods cost almost nothing
+        long retryAfter = loginThrottle.tryAcquire(request.getEmail(), clientIp(httpRequest));
+        if (retryAfter > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body(Map.of("error", "Too many login attempts, please retry later"));
+        }
+        try {
+            TokenPair tokens = authService.login(request);
+            return ResponseEntity.ok(tokenResponse(tokens, "Login successful"));
+        } catch (HashingOverloadedException e) {
+            return overloaded(e);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Map<String, String> request) {
         try {
-            String token = authService.login(request);
-            return ResponseEntity.ok(Map.of("token", token, "message", "Login successful"));
+            TokenPair tokens = authService.refresh(request.get("refreshToken"));
+            return ResponseEntity.ok(tokenResponse(tokens, "Token refreshed"));
+        } catch (InvalidRefreshTokenException | IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid refresh token"));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authHeader,
+                                    @RequestBody(required = false) Map<String, String> request) {
+        try {
+            String accessToken = authHeader == null ? null : authHeader.replace("Bearer ", "");
+            String refreshToken = request == null ? null : request.get("refreshToken");
+            authService.logout(accessToken, refreshToken);
+            return ResponseEntity.ok(Map.of("message", "Logged out"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private static Map<String, Object> tokenResponse(TokenPair tokens, String message) {
+        return Map.of(
+                "token", tokens.accessToken(),
+                "refreshToken", tokens.refreshToken(),
+                "expiresIn", tokens.expiresIn(),
+                "message", message);
+    }
+
+    // Tomcat's RemoteIpValve only rewrites the remote address from X-Forwarded-For when the
+    // peer is one of server.tomcat.remoteip.internal-proxies, so clients cannot pick their bucket
+    private static String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    // The hashing pool drains within a second or two of a burst
+    private ResponseEntity<?> overloaded(HashingOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", e.getMessage()));
+    }
+
     @PostMapping("/verify")
     public ResponseEntity<?> verify(@RequestBody Map<String, String> request) {
         try {
@@ -48,11 +137,31 @@ public class AuthController {
         }
     }
 
+    // For fan-out jobs holding many tokens: one round trip instead of one /verify per token
+    @PostMapping("/verify:batch")
+    public ResponseEntity<?> verifyBatch(@RequestBody Map<String, List<String>> request) {
+        try {
+            List<String> tokens = request.get("tokens");
+            if (tokens == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "tokens is required"));
+            }
+            if (tokens.size() > maxBatchTokens) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "At most " + maxBatchTokens + " tokens can be verified at once"));
+            }
+            List<TokenVerification> results = authService.verifyTokens(tokens);
+            long valid = results.stream().filter(TokenVerification::valid).count();
+            return ResponseEntity.ok(Map.of("results", results, "valid", valid, "invalid", results.size() - valid));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/user")
     public ResponseEntity<?> getUser(@RequestHeader("Authorization") String authHeader) {
         try {
             String token = authHeader.replace("Bearer ", "");
-            User user = authService.getUserByToken(token);
+            UserProfile user = authService.getUserByToken(token);
             return ResponseEntity.ok(user);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
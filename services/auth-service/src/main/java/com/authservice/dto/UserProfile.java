@@ -0,0 +1,97 @@
+package com.authservice.dto;
+
+import com.authservice.model.User;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * What {@code GET /api/auth/user} returns: the account without credentials.
+ */
+public class UserProfile {
+    private String userId;
+    private String fullName;
+    private String email;
+    private String phone;
+    private List<String> roles;
+    private String status;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public static UserProfile from(User user) {
+        UserProfile profile = new UserProfile();
+        profile.setUserId(user.getUserId());
+        profile.setFullName(user.getFullName());
+        profile.setEmail(user.getEmail());
+        profile.setPhone(user.getPhone());
+        profile.setRoles(user.getRoles());
+        profile.setStatus(user.getStatus());
+        profile.setCreatedAt(user.getCreatedAt());
+        profile.setUpdatedAt(user.getUpdatedAt());
+        return profile;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(List<String> roles) {
+        this.roles = roles;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
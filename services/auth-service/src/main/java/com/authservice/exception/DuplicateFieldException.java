@@ -0,0 +1,17 @@
+package com.authservice.exception;
+
+/**
+ * A unique field (email, phone) is already taken by another account.
+ */
+public class DuplicateFieldException extends RuntimeException {
+    private final String field;
+
+    public DuplicateFieldException(String field, String message) {
+        super(message, null, false, false);
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
@@ -0,0 +1,11 @@
+package com.authservice.exception;
+
+/**
+ * The password hashing pool is saturated; the client should retry shortly.
+ */
+public class HashingOverloadedException extends RuntimeException {
+
+    public HashingOverloadedException(String message) {
+        super(message, null, false, false);
+    }
+}
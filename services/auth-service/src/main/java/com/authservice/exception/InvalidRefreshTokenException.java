@@ -0,0 +1,11 @@
+package com.authservice.exception;
+
+/**
+ * The refresh token is unknown, expired, revoked or was already rotated.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException() {
+        super("Invalid refresh token", null, false, false);
+    }
+}
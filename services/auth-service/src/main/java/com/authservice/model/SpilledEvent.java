@@ -0,0 +1,65 @@
+package com.authservice.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.Instant;
+
+/**
+ * A serialized platform event that could not be handed to Redis: the send queue was
+ * full, every retry failed, or the service was shutting down. Replayed to the stream
+ * and deleted once Redis accepts it.
+ */
+@Document(collection = "event_spill")
+public class SpilledEvent {
+    @Id
+    private String id;
+
+    private String eventJson;
+
+    private String reason;
+
+    @Indexed
+    private Instant spilledAt;
+
+    public SpilledEvent() {
+    }
+
+    public SpilledEvent(String eventJson, String reason) {
+        this.eventJson = eventJson;
+        this.reason = reason;
+        this.spilledAt = Instant.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getEventJson() {
+        return eventJson;
+    }
+
+    public void setEventJson(String eventJson) {
+        this.eventJson = eventJson;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public Instant getSpilledAt() {
+        return spilledAt;
+    }
+
+    public void setSpilledAt(Instant spilledAt) {
+        this.spilledAt = spilledAt;
+    }
+}
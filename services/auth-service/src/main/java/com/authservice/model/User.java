@@ -20,7 +20,8 @@ public class User {
     @Indexed(unique = true)
     private String email;
 
-    @Indexed(unique = true)
+    // Sparse so that any number of users can register without a phone
+    @Indexed(unique = true, sparse = true)
     private String phone;
 
     private String passwordHash;
@@ -0,0 +1,10 @@
+package com.authservice.repository;
+
+import com.authservice.model.RefreshToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends MongoRepository<RefreshToken, String> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+    long deleteByFamilyId(String familyId);
+}
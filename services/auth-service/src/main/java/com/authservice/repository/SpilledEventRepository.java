@@ -0,0 +1,10 @@
+package com.authservice.repository;
+
+import com.authservice.model.SpilledEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import java.util.List;
+
+public interface SpilledEventRepository extends MongoRepository<SpilledEvent, String> {
+    List<SpilledEvent> findAllByOrderBySpilledAtAsc(Pageable pageable);
+}
@@ -2,11 +2,17 @@ package com.authservice.repository;
 
 import com.authservice.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import java.util.Optional;
 
 public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUserId(String userId);
+
+    // Never load the password hash for profile reads
+    @Query(value = "{ 'userId': ?0 }", fields = "{ 'passwordHash': 0 }")
+    Optional<User> findProfileByUserId(String userId);
+
     Optional<User> findByPhone(String phone);
     boolean existsByEmail(String email);
     boolean existsByUserId(String userId);
@@ -0,0 +1,269 @@
+package com.authservice.service;
+
+import com.authservice.model.SpilledEvent;
+import com.authservice.repository.SpilledEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded hand-off between request threads and the platform stream. A single background
+ * thread drains the queue and sends what has accumulated as one pipelined batch, retrying
+ * a failed batch with backoff. Events that cannot be sent (queue full, retries exhausted,
+ * shutdown) are spilled to the {@code event_spill} collection and replayed on a schedule,
+ * so delivery is at-least-once; consumers de-duplicate on {@code event_id}.
+ */
+@Component
+public class AsyncEventSender {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEventSender.class);
+
+    private record QueuedEvent(String json, long enqueuedNanos) {
+    }
+
+    private final StreamBatchWriter writer;
+    private final SpilledEventRepository spill;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final int replayBatchSize;
+    private final int maxReplayBatches;
+
+    private final Timer publishLatency;
+    private final Timer sendLatency;
+    private final DistributionSummary batchSizes;
+    private final Counter sent;
+    private final Counter replayed;
+    private final Counter spilledQueueFull;
+    private final Counter spilledSendFailed;
+    private final Counter spilledShutdown;
+    private final AtomicLong spillBacklog = new AtomicLong();
+
+    private final Thread senderThread;
+    private volatile boolean running = true;
+
+    public AsyncEventSender(
+            StreamBatchWriter writer,
+            SpilledEventRepository spill,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${event.redis.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${event.redis.async.batch-size:100}") int batchSize,
+            @Value("${event.redis.async.max-attempts:3}") int maxAttempts,
+            @Value("${event.redis.async.retry-backoff:200ms}") Duration retryBackoff,
+            @Value("${event.spill.replay-batch-size:200}") int replayBatchSize,
+            @Value("${event.spill.max-batches-per-run:20}") int maxReplayBatches) {
+        this.writer = writer;
+        this.spill = spill;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.replayBatchSize = replayBatchSize;
+        this.maxReplayBatches = maxReplayBatches;
+
+        this.publishLatency = Timer.builder("auth.events.publish.latency")
+                .description("Time from publish to the event being accepted by Redis")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("auth.events.send.latency")
+                .description("Time to send one pipelined batch of events to Redis")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("auth.events.batch.size")
+                .description("Events per pipelined batch")
+                .register(meterRegistry);
+        this.sent = Counter.builder("auth.events.sent").register(meterRegistry);
+        this.replayed = Counter.builder("auth.events.replayed")
+                .description("Spilled events later delivered to Redis")
+                .register(meterRegistry);
+        this.spilledQueueFull = spilledCounter(meterRegistry, "queue_full");
+        this.spilledSendFailed = spilledCounter(meterRegistry, "send_failed");
+        this.spilledShutdown = spilledCounter(meterRegistry, "shutdown");
+        meterRegistry.gauge("auth.events.queue.depth", queue, BlockingQueue::size);
+        meterRegistry.gauge("auth.events.spill.backlog", spillBacklog);
+
+        this.senderThread = new Thread(this::drainLoop, "auth-event-sender");
+        this.senderThread.setDaemon(true);
+        this.senderThread.start();
+    }
+
+    private static Counter spilledCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.events.spilled")
+                .description("Events written to event_spill instead of Redis")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /** Never blocks on Redis; a full queue costs the caller one Mongo insert instead. */
+    public void enqueue(String eventJson) {
+        if (running && queue.offer(new QueuedEvent(eventJson, System.nanoTime()))) {
+            return;
+        }
+        spill(List.of(eventJson), "queue_full", spilledQueueFull);
+    }
+
+    private void drainLoop() {
+        List<QueuedEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<QueuedEvent> batch) {
+        List<String> jsons = new ArrayList<>(batch.size());
+        for (QueuedEvent event : batch) {
+            jsons.add(event.json());
+        }
+        if (sendWithRetry(jsons)) {
+            long now = System.nanoTime();
+            for (QueuedEvent event : batch) {
+                publishLatency.record(now - event.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            }
+        } else {
+            spill(jsons, "send_failed", spilledSendFailed);
+        }
+    }
+
+    private boolean sendWithRetry(List<String> jsons) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            long start = System.nanoTime();
+            try {
+                writer.writeBatch(jsons);
+                sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                batchSizes.record(jsons.size());
+                sent.increment(jsons.size());
+                return true;
+            } catch (Exception e) {
+                logger.warn("Failed to send batch of {} events (attempt {}/{})",
+                        jsons.size(), attempt, maxAttempts, e);
+                if (attempt < maxAttempts && !sleepBeforeRetry(attempt)) {
+                    break;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoff.toMillis() * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void spill(List<String> jsons, String reason, Counter counter) {
+        List<SpilledEvent> events = new ArrayList<>(jsons.size());
+        for (String json : jsons) {
+            events.add(new SpilledEvent(json, reason));
+        }
+        try {
+            spill.insert(events);
+            counter.increment(jsons.size());
+            spillBacklog.addAndGet(jsons.size());
+        } catch (Exception e) {
+            // Neither Redis nor Mongo took the events. Payloads hold PII, so only ids are logged
+            logger.error("Lost {} events, spill failed; event ids {}", jsons.size(), eventIds(jsons), e);
+        }
+    }
+
+    private List<String> eventIds(List<String> jsons) {
+        List<String> ids = new ArrayList<>(jsons.size());
+        for (String json : jsons) {
+            try {
+                ids.add(objectMapper.readTree(json).path("event_id").asText("?"));
+            } catch (Exception e) {
+                ids.add("?");
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Moves spilled events back onto the stream, oldest first. Replicas may replay the
+     * same rows concurrently; that only duplicates delivery.
+     */
+    @Scheduled(fixedDelayString = "${event.spill.replay-interval-ms:5000}")
+    public void replaySpilled() {
+        try {
+            for (int i = 0; i < maxReplayBatches; i++) {
+                List<SpilledEvent> events = spill.findAllByOrderBySpilledAtAsc(PageRequest.of(0, replayBatchSize));
+                if (events.isEmpty()) {
+                    break;
+                }
+                List<String> jsons = new ArrayList<>(events.size());
+                for (SpilledEvent event : events) {
+                    jsons.add(event.getEventJson());
+                }
+                if (!sendWithRetry(jsons)) {
+                    break;
+                }
+                spill.deleteAll(events);
+                replayed.increment(events.size());
+            }
+            spillBacklog.set(spill.count());
+        } catch (Exception e) {
+            logger.warn("Failed to replay spilled events", e);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /** Gives the sender a few seconds to flush, then spills whatever is still queued. */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            senderThread.join(Duration.ofSeconds(5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<QueuedEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            List<String> jsons = new ArrayList<>(remaining.size());
+            for (QueuedEvent event : remaining) {
+                jsons.add(event.json());
+            }
+            spill(jsons, "shutdown", spilledShutdown);
+        }
+    }
+}
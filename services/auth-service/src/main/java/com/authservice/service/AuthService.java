@@ -2,13 +2,19 @@ package com.authservice.service;
 
 import com.authservice.dto.LoginRequest;
 import com.authservice.dto.RegisterRequest;
+import com.authservice.dto.UserProfile;
+import com.authservice.exception.DuplicateFieldException;
+import com.authservice.exception.InvalidRefreshTokenException;
 import com.authservice.model.User;
 import com.authservice.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,28 +30,38 @@ public class AuthService {
     @Autowired
     private EventPublisher eventPublisher;
 
-    private final Argon2PasswordEncoder passwordEncoder = new Argon2PasswordEncoder(16, 32, 1, 4096, 3);
+    @Autowired
+    private VerifiedTokenCache verifiedTokens;
 
-    public String registerUser(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already exists");
-        }
-        if (request.getPhone() != null && userRepository.existsByPhone(request.getPhone())) {
-            throw new RuntimeException("Phone already exists");
-        }
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
 
+    @Autowired
+    private UserProfileCache userProfiles;
+
+    @Autowired
+    private RefreshTokenService refreshTokens;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    public String registerUser(RegisterRequest request) {
         User user = new User();
-        user.setUserId("u_" + UUID.randomUUID().toString().substring(0, 8));
         user.setFullName(request.getFullName());
         user.setEmail(request.getEmail());
         user.setPhone(request.getPhone());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHasher.encode(request.getPassword()));
         user.setRoles(Arrays.asList("USER"));
         user.setStatus("ACTIVE");
         user.setCreatedAt(Instant.now());
         user.setUpdatedAt(Instant.now());
 
-        userRepository.save(user);
+        // One insert; the unique indexes on email, phone and userId do the checking
+        insertWithFreshUserId(user);
+        emailBloomFilter.addRegistered(user.getEmail());
 
         // Publish USER_REGISTERED event
         eventPublisher.publishUserRegisteredEvent(user);
@@ -53,9 +69,42 @@ public class AuthService {
         return user.getUserId();
     }
 
-    public String login(LoginRequest request) {
+    private void insertWithFreshUserId(User user) {
+        for (int attempt = 1; ; attempt++) {
+            user.setUserId("u_" + UUID.randomUUID().toString().substring(0, 8));
+            try {
+                userRepository.insert(user);
+                return;
+            } catch (DuplicateKeyException e) {
+                String message = String.valueOf(e.getMessage());
+                if (message.contains("index: email")) {
+                    throw new DuplicateFieldException("email", "Email already exists");
+                }
+                if (message.contains("index: phone")) {
+                    throw new DuplicateFieldException("phone", "Phone already exists");
+                }
+                // Short userIds can collide; anything else is unexpected
+                if (!message.contains("index: userId") || attempt >= 3) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Availability check for the signup form. Emails the Bloom filter has never seen are
+     * answered without Mongo.
+     */
+    public boolean isEmailAvailable(String email) {
+        if (emailBloomFilter.definitelyAbsent(email)) {
+            return true;
+        }
+        return !userRepository.existsByEmail(email);
+    }
+
+    public TokenPair login(LoginRequest request) {
         Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
-        if (userOpt.isEmpty() || !passwordEncoder.matches(request.getPassword(), userOpt.get().getPasswordHash())) {
+        if (userOpt.isEmpty() || !passwordHasher.matches(request.getPassword(), userOpt.get().getPasswordHash())) {
             throw new RuntimeException("Invalid credentials");
         }
 
@@ -64,20 +113,76 @@ public class AuthService {
             throw new RuntimeException("User is not active");
         }
 
-        return jwtService.generateToken(user.getUserId(), user.getRoles());
+        return new TokenPair(
+                jwtService.generateToken(user.getUserId(), user.getRoles()),
+                refreshTokens.issue(user.getUserId()),
+                jwtService.getExpirationSeconds());
+    }
+
+    /**
+     * Rotates the refresh token and issues a new access token with the user's current roles.
+     *
+     * @throws InvalidRefreshTokenException if the token cannot be used
+     */
+    public TokenPair refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokens.rotate(refreshToken);
+        UserProfile user = userProfiles.get(rotation.userId()).orElse(null);
+        if (user == null || !"ACTIVE".equals(user.getStatus())) {
+            refreshTokens.revoke(rotation.refreshToken());
+            throw new InvalidRefreshTokenException();
+        }
+        return new TokenPair(
+                jwtService.generateToken(user.getUserId(), user.getRoles()),
+                rotation.refreshToken(),
+                jwtService.getExpirationSeconds());
+    }
+
+    /**
+     * Revokes the access token's jti until it expires and deletes the refresh token family.
+     * Either token may be null; tokens that are already invalid are ignored.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokens.revoke(refreshToken);
+        }
+        if (accessToken != null && !accessToken.isBlank()) {
+            try {
+                TokenClaims claims = verifiedTokens.verify(accessToken);
+                revocationList.revoke(claims.tokenId(), claims.expiresAt());
+                verifiedTokens.evict(accessToken);
+            } catch (JwtException | IllegalArgumentException e) {
+                // Already unusable
+            }
+        }
     }
 
     public boolean verifyToken(String token) {
         try {
-            String userId = jwtService.extractUserId(token);
-            return jwtService.validateToken(token, userId);
-        } catch (Exception e) {
+            verifiedTokens.verify(token);
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
-    public User getUserByToken(String token) {
-        String userId = jwtService.extractUserId(token);
-        return userRepository.findByUserId(userId).orElseThrow(() -> new RuntimeException("User not found"));
+    /**
+     * Verifies each token through the same cached single-parse path as {@link #verifyToken};
+     * results are in request order.
+     */
+    public List<TokenVerification> verifyTokens(List<String> tokens) {
+        List<TokenVerification> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            try {
+                results.add(TokenVerification.of(verifiedTokens.verify(token)));
+            } catch (JwtException | IllegalArgumentException e) {
+                results.add(TokenVerification.invalid());
+            }
+        }
+        return results;
+    }
+
+    public UserProfile getUserByToken(String token) {
+        String userId = verifiedTokens.verify(token).userId();
+        return userProfiles.get(userId).orElseThrow(() -> new RuntimeException("User not found"));
     }
 }
@@ -0,0 +1,147 @@
+package com.authservice.service;
+
+import com.authservice.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of registered emails for the signup availability check. "Definitely
+ * not registered" is answered from memory; "maybe" falls back to Mongo. It is loaded
+ * once at startup, and every replica learns new registrations over pub/sub. A broadcast
+ * missed while Redis is unreachable leaves that email reading as available on this
+ * replica until restart; the unique index on insert stays the real guard.
+ */
+@Component
+public class EmailBloomFilter {
+    private static final Logger logger = LoggerFactory.getLogger(EmailBloomFilter.class);
+    private static final String REGISTRATION_CHANNEL = "auth:email-bloom:registered";
+
+    private final boolean enabled;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final MongoTemplate mongoTemplate;
+    private final StringRedisTemplate redis;
+    private volatile boolean ready;
+
+    public EmailBloomFilter(
+            MongoTemplate mongoTemplate,
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${auth.email-bloom.enabled:true}") boolean enabled,
+            @Value("${auth.email-bloom.expected-emails:1000000}") long expectedEmails,
+            @Value("${auth.email-bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.mongoTemplate = mongoTemplate;
+        this.redis = redis;
+        this.enabled = enabled;
+        // Standard sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-expectedEmails * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = enabled ? Math.max(64, optimalBits) : 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEmails * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+
+        if (enabled) {
+            // Subscribed before warm-up, so registrations made while loading are not missed
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> add(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(REGISTRATION_CHANNEL));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        Query query = new Query();
+        query.fields().include("email");
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            users.forEach(user -> add(user.getEmail()));
+        }
+        ready = true;
+        logger.info("Email Bloom filter loaded ({} bits, {} hashes)", bitCount, hashCount);
+    }
+
+    /** Adds a newly registered email here and on every other replica. */
+    public void addRegistered(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        add(email);
+        try {
+            redis.convertAndSend(REGISTRATION_CHANNEL, email);
+        } catch (Exception e) {
+            logger.warn("Failed to broadcast a registration to the email Bloom filters", e);
+        }
+    }
+
+    void add(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        long[] hashes = hashes(email);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /** True only when the email is certainly not registered (as of this instance's view). */
+    public boolean definitelyAbsent(String email) {
+        if (!ready || email == null) {
+            return false;
+        }
+        long[] hashes = hashes(email);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Kirsch-Mitzenmacher: k indexes from two 64-bit hashes
+    private long index(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+    }
+
+    private static long[] hashes(String email) {
+        byte[] bytes = email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long fnv = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            fnv ^= b & 0xff;
+            fnv *= 0x100000001b3L;
+        }
+        return new long[] {mix(fnv), mix(fnv ^ 0x9e3779b97f4a7c15L) | 1};
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,14 +1,58 @@
 package com.authservice.service;
 
 import com.authservice.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes auth events to the {@code platform-events} stream in the shared envelope.
+ * Publishing only serializes and enqueues; {@link AsyncEventSender} does the Redis I/O.
+ */
 @Service
 public class EventPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(EventPublisher.class);
+
+    @Autowired
+    private AsyncEventSender sender;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     public void publishUserRegisteredEvent(User user) {
-        // Event publishing logic would go here
-        // For now, this is a placeholder implementation
-        System.out.println("User registered event published for user: " + user.getUserId());
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("userId", user.getUserId());
+        payload.put("fullName", user.getFullName());
+        payload.put("email", user.getEmail());
+        payload.put("phone", user.getPhone());
+        payload.put("roles", user.getRoles());
+        payload.put("status", user.getStatus());
+        payload.put("createdAt", user.getCreatedAt() == null ? null : user.getCreatedAt().toString());
+        publish("USER_REGISTERED", payload);
+    }
+
+    private void publish(String eventType, Map<String, Object> payload) {
+        String eventId = UUID.randomUUID().toString();
+        Map<String, Object> event = new HashMap<>();
+        event.put("event_id", eventId);
+        event.put("event_type", eventType);
+        event.put("occurred_at", Instant.now().toString());
+        event.put("source_service", "auth-service");
+        event.put("correlation_id", UUID.randomUUID().toString());
+        event.put("payload", payload);
+        try {
+            sender.enqueue(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            // The user is already registered; a lost event must not fail the request
+            logger.error("Failed to serialize {} event {}", eventType, eventId, e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,23 @@
 package com.authservice.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.List;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Service
 public class JwtService {
@@ -20,52 +28,94 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long expiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // HS256 (shared secret) or RS256 (keys from jwt.rsa, published as JWKS)
+    @Value("${jwt.algorithm:HS256}")
+    private String algorithm;
+
+    // Keep accepting HS256 tokens after switching to RS256 until the old ones have expired
+    @Value("${jwt.accept-hs256:true}")
+    private boolean acceptHs256;
+
+    @Autowired
+    private RsaKeyRing keyRing;
+
+    // Derived once; JwtParser is immutable and safe to share between threads
+    private Key signingKey;
+    private boolean rs256;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        rs256 = "RS256".equalsIgnoreCase(algorithm);
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header);
+                    }
+                })
+                .build();
+    }
+
+    private Key resolveVerificationKey(JwsHeader<?> header) {
+        if (SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+            if (rs256 && !acceptHs256) {
+                throw new UnsupportedJwtException("HS256 tokens are no longer accepted");
+            }
+            return signingKey;
+        }
+        Key key = keyRing.findPublicKey(header.getKeyId());
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key " + header.getKeyId());
+        }
+        return key;
     }
 
     public String generateToken(String userId, List<String> roles) {
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId)
                 .claim("roles", roles)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + expiration));
+        if (rs256) {
+            return builder
+                    .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                    .signWith(keyRing.getActivePrivateKey(), SignatureAlgorithm.RS256)
+                    .compact();
+        }
+        return builder
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractUserId(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
+    /**
+     * Checks the signature and expiry in one parse and returns the claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     * @throws IllegalArgumentException if the token is null or blank
+     */
     @SuppressWarnings("unchecked")
-    public List<String> extractRoles(String token) {
-        return extractClaim(token, claims -> (List<String>) claims.get("roles", List.class));
-    }
-
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public TokenClaims verify(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return new TokenClaims(
+                claims.getSubject(),
+                (List<String>) claims.get("roles", List.class),
+                claims.getId(),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant());
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public long getExpirationSeconds() {
+        return expiration / 1000;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String extractUserId(String token) {
+        return verify(token).userId();
     }
 
-    public boolean validateToken(String token, String userId) {
-        final String extractedUserId = extractUserId(token);
-        return (extractedUserId.equals(userId) && !isTokenExpired(token));
+    public List<String> extractRoles(String token) {
+        return verify(token).roles();
     }
 }
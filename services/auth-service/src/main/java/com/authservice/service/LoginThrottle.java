@@ -0,0 +1,227 @@
+package com.authservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token buckets for login attempts, one per email and one per client IP, checked before
+ * any Mongo lookup or Argon2 work. The default store is in-memory and per replica:
+ * buckets live in lock-striped, size-capped LRU maps, so unrelated keys rarely contend
+ * and no monitor is held (virtual-thread friendly). With {@code store: redis} the same bucket
+ * runs as a Lua script so all replicas share one budget; if Redis is unavailable the
+ * in-memory buckets take over.
+ */
+@Component
+public class LoginThrottle {
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottle.class);
+    private static final String REDIS_PREFIX = "auth:login-throttle:";
+    private static final RedisScript<Long> TOKEN_BUCKET = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local per_ms = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * per_ms)
+            local allowed = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / per_ms))
+            return allowed
+            """, Long.class);
+
+    private final Limit emailLimit;
+    private final Limit ipLimit;
+    private final Limit lookupLimit;
+    private final Stripe[] stripes;
+    private final StringRedisTemplate redis;
+
+    private final Counter allowed;
+    private final Counter rejectedEmail;
+    private final Counter rejectedIp;
+    private final Counter rejectedLookup;
+    private final Counter redisFallback;
+    // Logs the first failure of an outage, not one line per login
+    private volatile boolean redisFailing;
+
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            @Value("${auth.login-throttle.store:memory}") String store,
+            @Value("${auth.login-throttle.email.capacity:5}") int emailCapacity,
+            @Value("${auth.login-throttle.email.refill-per-minute:5}") double emailRefillPerMinute,
+            @Value("${auth.login-throttle.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.login-throttle.ip.refill-per-minute:30}") double ipRefillPerMinute,
+            @Value("${auth.login-throttle.lookup.capacity:20}") int lookupCapacity,
+            @Value("${auth.login-throttle.lookup.refill-per-minute:20}") double lookupRefillPerMinute,
+            @Value("${auth.login-throttle.stripes:64}") int stripeCount,
+            @Value("${auth.login-throttle.max-keys:200000}") int maxKeys) {
+        this.emailLimit = new Limit("email", emailCapacity, emailRefillPerMinute);
+        this.ipLimit = new Limit("ip", ipCapacity, ipRefillPerMinute);
+        this.lookupLimit = new Limit("lookup", lookupCapacity, lookupRefillPerMinute);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(Math.max(1, maxKeys / stripeCount));
+        }
+        this.redis = "redis".equalsIgnoreCase(store) ? redisTemplate.getIfAvailable() : null;
+
+        this.allowed = Counter.builder("auth.login.throttle")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.rejectedEmail = Counter.builder("auth.login.throttle")
+                .tag("result", "rejected").tag("key", "email")
+                .register(meterRegistry);
+        this.rejectedIp = Counter.builder("auth.login.throttle")
+                .tag("result", "rejected").tag("key", "ip")
+                .register(meterRegistry);
+        this.rejectedLookup = Counter.builder("auth.login.throttle")
+                .tag("result", "rejected").tag("key", "lookup")
+                .register(meterRegistry);
+        this.redisFallback = Counter.builder("auth.login.throttle")
+                .description("Bucket checks answered locally because Redis failed; the shared budget is not enforced")
+                .tag("result", "fallback")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one attempt from the IP bucket and then the email bucket. Returns 0 when the
+     * attempt may proceed, otherwise the seconds to wait before retrying.
+     */
+    public long tryAcquire(String email, String clientIp) {
+        if (clientIp != null && !take(ipLimit, clientIp)) {
+            rejectedIp.increment();
+            return ipLimit.secondsPerToken();
+        }
+        if (email != null && !take(emailLimit, email.trim().toLowerCase(Locale.ROOT))) {
+            rejectedEmail.increment();
+            return emailLimit.secondsPerToken();
+        }
+        allowed.increment();
+        return 0;
+    }
+
+    /**
+     * Per-IP budget for account lookups such as the email availability check, kept apart
+     * from the login buckets. Same return value as {@link #tryAcquire}.
+     */
+    public long tryAcquireLookup(String clientIp) {
+        if (clientIp != null && !take(lookupLimit, clientIp)) {
+            rejectedLookup.increment();
+            return lookupLimit.secondsPerToken();
+        }
+        return 0;
+    }
+
+    private boolean take(Limit limit, String id) {
+        String key = limit.name + ":" + id;
+        if (redis != null) {
+            try {
+                Long result = redis.execute(TOKEN_BUCKET, List.of(REDIS_PREFIX + key),
+                        String.valueOf(limit.capacity),
+                        String.valueOf(limit.tokensPerNano * TimeUnit.MILLISECONDS.toNanos(1)),
+                        String.valueOf(System.currentTimeMillis()));
+                if (redisFailing) {
+                    redisFailing = false;
+                    logger.info("Login throttle: Redis recovered, shared buckets back in use");
+                }
+                return result != null && result == 1L;
+            } catch (Exception e) {
+                // Fall through to the local buckets rather than failing logins; each replica
+                // then allows its own full budget
+                redisFallback.increment();
+                if (!redisFailing) {
+                    redisFailing = true;
+                    logger.warn("Login throttle: Redis unavailable, using per-replica buckets", e);
+                }
+            }
+        }
+        return takeLocal(limit, key);
+    }
+
+    private boolean takeLocal(Limit limit, String key) {
+        Stripe stripe = stripes[(key.hashCode() & 0x7fffffff) % stripes.length];
+        long now = System.nanoTime();
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(limit, now);
+                stripe.buckets.put(key, bucket);
+            }
+            bucket.refill(now);
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens -= 1;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** One lock and an access-ordered map capped at {@code max-keys / stripes} buckets. */
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<String, Bucket> buckets;
+
+        Stripe(int maxBuckets) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxBuckets;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        final Limit limit;
+        double tokens;
+        long refilledAtNanos;
+
+        Bucket(Limit limit, long now) {
+            this.limit = limit;
+            this.tokens = limit.capacity;
+            this.refilledAtNanos = now;
+        }
+
+        void refill(long now) {
+            tokens = Math.min(limit.capacity, tokens + (now - refilledAtNanos) * limit.tokensPerNano);
+            refilledAtNanos = now;
+        }
+    }
+
+    private static final class Limit {
+        final String name;
+        final int capacity;
+        final double tokensPerNano;
+
+        Limit(String name, int capacity, double refillPerMinute) {
+            this.name = name;
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+        }
+
+        long secondsPerToken() {
+            return Math.max(1, (long) Math.ceil(1 / (tokensPerNano * TimeUnit.SECONDS.toNanos(1))));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.authservice.service;
+
+import com.authservice.exception.HashingOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs Argon2 on a small, fixed pool of platform threads (one per core by default) so a
+ * login burst queues here instead of occupying every request thread. When the queue is
+ * full the call fails fast with {@link HashingOverloadedException} (503) rather than
+ * piling up latency for everyone.
+ */
+@Component
+public class PasswordHasher {
+
+    private final Argon2PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer encodeLatency;
+    private final Timer matchesLatency;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHasher(
+            MeterRegistry meterRegistry,
+            @Value("${auth.argon2.salt-length:16}") int saltLength,
+            @Value("${auth.argon2.hash-length:32}") int hashLength,
+            @Value("${auth.argon2.parallelism:1}") int parallelism,
+            @Value("${auth.argon2.memory-kb:4096}") int memoryKb,
+            @Value("${auth.argon2.iterations:3}") int iterations,
+            @Value("${auth.argon2.threads:0}") int threads,
+            @Value("${auth.argon2.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.argon2.timeout-ms:5000}") long timeoutMillis) {
+        this.encoder = new Argon2PasswordEncoder(saltLength, hashLength, parallelism, memoryKb, iterations);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "argon2-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+
+        this.encodeLatency = hashTimer(meterRegistry, "encode");
+        this.matchesLatency = hashTimer(meterRegistry, "matches");
+        this.queueWait = Timer.builder("auth.password.hash.queue.wait")
+                .description("Time a hash request waited for a free hashing thread")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("Hash requests refused because the queue was full or the wait timed out")
+                .register(meterRegistry);
+        meterRegistry.gauge("auth.password.hash.queue.depth", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash.latency")
+                .description("Argon2 computation time, excluding queueing")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(encodeLatency, () -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return run(matchesLatency, () -> encoder.matches(rawPassword, passwordHash));
+    }
+
+    private <T> T run(Timer latency, Callable<T> hash) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return hash.call();
+                } finally {
+                    latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new HashingOverloadedException("Too many concurrent sign-ins, please retry");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new HashingOverloadedException("Password check timed out, please retry");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
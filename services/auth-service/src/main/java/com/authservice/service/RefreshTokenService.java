@@ -0,0 +1,104 @@
+package com.authservice.service;
+
+import com.authservice.exception.InvalidRefreshTokenException;
+import com.authservice.model.RefreshToken;
+import com.authservice.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque, rotating refresh tokens. Each refresh marks the presented token used in one
+ * atomic update and issues its successor. A token used again within {@code reuse-grace}
+ * (two tabs refreshing at once, a client retrying after a timeout) gets another successor;
+ * a token used again after that means it leaked, so the whole family is deleted and the
+ * user has to log in again.
+ */
+@Service
+public class RefreshTokenService {
+
+    public record Rotation(String userId, String refreshToken) {
+    }
+
+    private final SecureRandom random = new SecureRandom();
+    private final RefreshTokenRepository repository;
+    private final MongoTemplate mongoTemplate;
+    private final Duration ttl;
+    private final Duration reuseGrace;
+
+    public RefreshTokenService(
+            RefreshTokenRepository repository,
+            MongoTemplate mongoTemplate,
+            @Value("${auth.refresh-token.ttl:30d}") Duration ttl,
+            @Value("${auth.refresh-token.reuse-grace:10s}") Duration reuseGrace) {
+        this.repository = repository;
+        this.mongoTemplate = mongoTemplate;
+        this.ttl = ttl;
+        this.reuseGrace = reuseGrace;
+    }
+
+    public String issue(String userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consumes {@code token} and returns its successor.
+     *
+     * @throws InvalidRefreshTokenException if the token is unknown, expired or was used
+     *         longer than {@code reuse-grace} ago
+     */
+    public Rotation rotate(String token) {
+        String tokenHash = VerifiedTokenCache.hash(token);
+        Instant now = Instant.now();
+        Query unused = Query.query(Criteria.where("tokenHash").is(tokenHash)
+                .and("usedAt").is(null)
+                .and("expiresAt").gt(now));
+        RefreshToken current = mongoTemplate.findAndModify(
+                unused, new Update().set("usedAt", now), FindAndModifyOptions.none(), RefreshToken.class);
+        if (current == null) {
+            current = repository.findByTokenHash(tokenHash).orElseThrow(InvalidRefreshTokenException::new);
+            // Expired but not yet removed by the TTL monitor: refuse it, the family stays
+            if (current.getUsedAt() == null || !current.getExpiresAt().isAfter(now)) {
+                throw new InvalidRefreshTokenException();
+            }
+            if (current.getUsedAt().plus(reuseGrace).isBefore(now)) {
+                // Replay of a rotated token: revoke the family, including the live successor
+                repository.deleteByFamilyId(current.getFamilyId());
+                throw new InvalidRefreshTokenException();
+            }
+        }
+        return new Rotation(current.getUserId(), issue(current.getUserId(), current.getFamilyId()));
+    }
+
+    /** Deletes the token's family; unknown tokens are ignored. */
+    public void revoke(String token) {
+        repository.findByTokenHash(VerifiedTokenCache.hash(token))
+                .ifPresent(current -> repository.deleteByFamilyId(current.getFamilyId()));
+    }
+
+    private String issue(String userId, String familyId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(VerifiedTokenCache.hash(token));
+        refreshToken.setUserId(userId);
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plus(ttl));
+        repository.insert(refreshToken);
+        return token;
+    }
+}
@@ -0,0 +1,151 @@
+package com.authservice.service;
+
+import com.authservice.config.JwtRsaProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Parsed RSA keys for RS256 signing plus their JWKS representation, built once at
+ * startup. Without configured keys in RS256 mode an ephemeral pair is generated under the
+ * {@code dev} profile, which only suits a single instance since tokens die with the
+ * process; under any other profile startup fails instead.
+ */
+@Component
+public class RsaKeyRing {
+    private static final Logger logger = LoggerFactory.getLogger(RsaKeyRing.class);
+
+    private final String activeKid;
+    private final PrivateKey activePrivateKey;
+    private final Map<String, RSAPublicKey> publicKeys;
+    private final Map<String, Object> jwks;
+
+    public RsaKeyRing(
+            JwtRsaProperties properties,
+            Environment environment,
+            @Value("${jwt.algorithm:HS256}") String algorithm) {
+        Map<String, RSAPublicKey> keys = new LinkedHashMap<>();
+        PrivateKey privateKey = null;
+        String kid = properties.getActiveKid();
+
+        if (!"RS256".equalsIgnoreCase(algorithm)) {
+            kid = null;
+        } else if (properties.getKeys().isEmpty()) {
+            if (!environment.acceptsProfiles(Profiles.of("dev"))) {
+                throw new IllegalStateException(
+                        "jwt.rsa.keys is empty; configure RSA keys or run with the dev profile");
+            }
+            KeyPair generated = generateKeyPair();
+            kid = "ephemeral-" + UUID.randomUUID().toString().substring(0, 8);
+            keys.put(kid, (RSAPublicKey) generated.getPublic());
+            privateKey = generated.getPrivate();
+            logger.warn("jwt.rsa.keys is empty, signing with ephemeral RSA key {}; tokens will not survive a restart", kid);
+        } else {
+            for (JwtRsaProperties.KeyPair pair : properties.getKeys()) {
+                keys.put(pair.getKid(), (RSAPublicKey) parsePublicKey(pair.getPublicKey()));
+                if (pair.getKid().equals(kid)) {
+                    if (pair.getPrivateKey() == null) {
+                        throw new IllegalStateException("Active JWT key " + kid + " has no private key");
+                    }
+                    privateKey = parsePrivateKey(pair.getPrivateKey());
+                }
+            }
+            if (privateKey == null) {
+                throw new IllegalStateException("jwt.rsa.active-kid " + kid + " is not in jwt.rsa.keys");
+            }
+        }
+
+        this.activeKid = kid;
+        this.activePrivateKey = privateKey;
+        this.publicKeys = Collections.unmodifiableMap(keys);
+        this.jwks = buildJwks(keys);
+    }
+
+    public String getActiveKid() { return activeKid; }
+    public PrivateKey getActivePrivateKey() { return activePrivateKey; }
+
+    public PublicKey findPublicKey(String kid) {
+        return kid == null ? null : publicKeys.get(kid);
+    }
+
+    /** The JWK Set document; empty in HS256 mode. */
+    public Map<String, Object> getJwks() {
+        return jwks;
+    }
+
+    private static Map<String, Object> buildJwks(Map<String, RSAPublicKey> keys) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        List<Map<String, Object>> jwkList = new ArrayList<>(keys.size());
+        keys.forEach((kid, key) -> {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("n", encoder.encodeToString(unsigned(key.getModulus().toByteArray())));
+            jwk.put("e", encoder.encodeToString(unsigned(key.getPublicExponent().toByteArray())));
+            jwkList.add(Collections.unmodifiableMap(jwk));
+        });
+        return Map.of("keys", List.copyOf(jwkList));
+    }
+
+    // JWK integers are unsigned big-endian; drop the sign byte BigInteger adds
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+
+    private static PublicKey parsePublicKey(String pem) {
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(decodePem(pem)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid RSA public key", e);
+        }
+    }
+
+    private static PrivateKey parsePrivateKey(String pem) {
+        try {
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(decodePem(pem)));
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid RSA private key", e);
+        }
+    }
+
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot generate RSA key pair", e);
+        }
+    }
+}
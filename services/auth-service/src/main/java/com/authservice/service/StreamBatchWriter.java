@@ -0,0 +1,50 @@
+package com.authservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes serialized event envelopes to the platform stream, a batch as one pipelined
+ * round trip of {@code XADD}s.
+ */
+@Component
+public class StreamBatchWriter {
+
+    private final StringRedisTemplate redis;
+    private final String streamKey;
+
+    public StreamBatchWriter(
+            StringRedisTemplate redis,
+            @Value("${event.redis.stream-key:platform-events}") String streamKey) {
+        this.redis = redis;
+        this.streamKey = streamKey;
+    }
+
+    public void writeBatch(List<String> eventJsons) {
+        if (eventJsons.isEmpty()) {
+            return;
+        }
+        if (eventJsons.size() == 1) {
+            redis.opsForStream().add(streamKey, Map.of("event", eventJsons.get(0)));
+            return;
+        }
+        redis.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String eventJson : eventJsons) {
+                    ops.opsForStream().add(streamKey, Map.of("event", eventJson));
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.authservice.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of a token whose signature and expiry have already been checked.
+ * {@code tokenId} is the {@code jti}; tokens issued before it was added have none.
+ */
+public record TokenClaims(String userId, List<String> roles, String tokenId, Instant issuedAt, Instant expiresAt) {
+}
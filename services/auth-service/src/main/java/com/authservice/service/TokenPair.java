@@ -0,0 +1,8 @@
+package com.authservice.service;
+
+/**
+ * What login and refresh hand out: a short-lived access token and the refresh token
+ * that replaces it. {@code expiresIn} is the access token lifetime in seconds.
+ */
+public record TokenPair(String accessToken, String refreshToken, long expiresIn) {
+}
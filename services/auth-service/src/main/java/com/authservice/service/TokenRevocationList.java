@@ -0,0 +1,91 @@
+package com.authservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access token ids ({@code jti}). Redis holds the shared set as a sorted set scored
+ * by token expiry; every replica mirrors it in memory so the per-request check is a hash
+ * lookup. New revocations arrive over pub/sub, and a periodic resync catches messages
+ * missed while disconnected. An id is dropped once its token has expired, so the set
+ * only ever holds revocations from the last access-token lifetime.
+ */
+@Component
+public class TokenRevocationList {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+    private static final String REVOKED_KEY = "auth:revoked-jti";
+    private static final String REVOCATION_CHANNEL = "auth:revoked-jti:events";
+
+    private final StringRedisTemplate redis;
+    // jti -> token expiry in epoch seconds
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Counter revocations;
+
+    public TokenRevocationList(
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.revocations = Counter.builder("auth.token.revoked")
+                .description("Access tokens revoked on this instance")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("auth.token.revoked.local", Tags.empty(), revoked);
+
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            if (separator > 0) {
+                revoked.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+            }
+        }, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && !revoked.isEmpty() && revoked.containsKey(tokenId);
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        long expiry = expiresAt.getEpochSecond();
+        revoked.put(tokenId, expiry);
+        redis.opsForZSet().add(REVOKED_KEY, tokenId, expiry);
+        redis.convertAndSend(REVOCATION_CHANNEL, tokenId + ":" + expiry);
+        revocations.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.resync-interval-ms:30000}")
+    public void resync() {
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expiry -> expiry <= now);
+        try {
+            redis.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<ZSetOperations.TypedTuple<String>> live =
+                    redis.opsForZSet().rangeByScoreWithScores(REVOKED_KEY, now + 1, Double.POSITIVE_INFINITY);
+            if (live != null) {
+                for (ZSetOperations.TypedTuple<String> entry : live) {
+                    revoked.put(entry.getValue(), entry.getScore().longValue());
+                }
+            }
+        } catch (Exception e) {
+            // Keep serving from the local copy; pub/sub still delivers new revocations
+            logger.warn("Failed to resync revoked tokens, serving {} from the local copy", revoked.size(), e);
+        }
+    }
+}
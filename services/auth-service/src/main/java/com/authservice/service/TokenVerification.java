@@ -0,0 +1,23 @@
+package com.authservice.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One entry of a batch verification: the claims of a valid token, or just
+ * {@code valid: false}. {@code exp} is in epoch seconds.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenVerification(boolean valid, String userId, List<String> roles, Long exp) {
+
+    private static final TokenVerification INVALID = new TokenVerification(false, null, null, null);
+
+    static TokenVerification of(TokenClaims claims) {
+        return new TokenVerification(true, claims.userId(), claims.roles(), claims.expiresAt().getEpochSecond());
+    }
+
+    static TokenVerification invalid() {
+        return INVALID;
+    }
+}
@@ -0,0 +1,128 @@
+package com.authservice.service;
+
+import com.authservice.dto.UserProfile;
+import com.authservice.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through profile cache for {@code GET /api/auth/user}: a short-lived local
+ * Caffeine tier, then a shared Redis tier, then Mongo. {@link #invalidate} must be called
+ * after any write to a user's profile or status; it deletes the Redis copy and tells
+ * every replica over pub/sub to drop its local copy.
+ */
+@Component
+public class UserProfileCache {
+    private static final Logger logger = LoggerFactory.getLogger(UserProfileCache.class);
+    private static final String KEY_PREFIX = "auth:user-profile:";
+    private static final String INVALIDATION_CHANNEL = "auth:user-profile:invalidate";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, UserProfile> local;
+    private final Duration redisTtl;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter mongoReads;
+
+    public UserProfileCache(
+            UserRepository userRepository,
+            StringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auth.profile-cache.local.max-size:50000}") long localMaxSize,
+            @Value("${auth.profile-cache.local.ttl:60s}") Duration localTtl,
+            @Value("${auth.profile-cache.redis-ttl:10m}") Duration redisTtl) {
+        this.userRepository = userRepository;
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "auth.user_profiles");
+        this.localHits = lookupCounter(meterRegistry, "local");
+        this.redisHits = lookupCounter(meterRegistry, "redis");
+        this.mongoReads = lookupCounter(meterRegistry, "mongo");
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> local.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("auth.user_profile.lookups")
+                .description("Profile lookups by the tier that answered")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    public Optional<UserProfile> get(String userId) {
+        UserProfile cached = local.getIfPresent(userId);
+        if (cached != null) {
+            localHits.increment();
+            return Optional.of(cached);
+        }
+        UserProfile shared = readRedis(userId);
+        if (shared != null) {
+            redisHits.increment();
+            local.put(userId, shared);
+            return Optional.of(shared);
+        }
+        mongoReads.increment();
+        Optional<UserProfile> loaded = userRepository.findProfileByUserId(userId).map(UserProfile::from);
+        loaded.ifPresent(profile -> {
+            local.put(userId, profile);
+            writeRedis(userId, profile);
+        });
+        return loaded;
+    }
+
+    public void invalidate(String userId) {
+        local.invalidate(userId);
+        try {
+            redis.delete(KEY_PREFIX + userId);
+            redis.convertAndSend(INVALIDATION_CHANNEL, userId);
+        } catch (Exception e) {
+            // Other replicas converge when their local TTL runs out
+            logger.warn("Failed to broadcast profile invalidation for {}", userId, e);
+        }
+    }
+
+    private UserProfile readRedis(String userId) {
+        try {
+            String json = redis.opsForValue().get(KEY_PREFIX + userId);
+            return json == null ? null : objectMapper.readValue(json, UserProfile.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void writeRedis(String userId, UserProfile profile) {
+        try {
+            redis.opsForValue().set(KEY_PREFIX + userId, objectMapper.writeValueAsString(profile), redisTtl);
+        } catch (Exception e) {
+            // Redis is only an accelerator; Mongo already answered
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.authservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Claims of recently verified tokens, keyed by the token's SHA-256 so raw tokens are
+ * never held in memory. An entry lives until the token expires or for {@code max-ttl},
+ * whichever is sooner; revoked tokens must be evicted explicitly.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtService jwtService;
+    private final TokenRevocationList revocationList;
+    private final Cache<String, TokenClaims> cache;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public VerifiedTokenCache(
+            JwtService jwtService,
+            TokenRevocationList revocationList,
+            MeterRegistry meterRegistry,
+            @Value("${auth.token-cache.max-size:100000}") long maxSize,
+            @Value("${auth.token-cache.max-ttl:5m}") Duration maxTtl) {
+        this.jwtService = jwtService;
+        this.revocationList = revocationList;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.verified_tokens");
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.token.verify")
+                .description("Token verification latency, cache hits included")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the token's claims, verifying it only on a cache miss. Invalid tokens are
+     * never cached; revocation is checked on every call, hits included.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged, expired or revoked
+     */
+    public TokenClaims verify(String token) {
+        long start = System.nanoTime();
+        Timer timer = invalidTimer;
+        try {
+            TokenClaims claims = cache.get(hash(token), key -> jwtService.verify(token));
+            if (revocationList.isRevoked(claims.tokenId())) {
+                throw new JwtException("Token has been revoked");
+            }
+            timer = validTimer;
+            return claims;
+        } finally {
+            timer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    public void evict(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    /** Drops every cached token of a user, e.g. after a password change or ban. */
+    public void evictUser(String userId) {
+        cache.asMap().values().removeIf(claims -> userId.equals(claims.userId()));
+    }
+
+    // Also keys refresh tokens in Mongo
+    static String hash(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Token is empty");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, TokenClaims> {
+        private final long maxTtlNanos;
+
+        UntilTokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), claims.expiresAt()).toNanos();
+            return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
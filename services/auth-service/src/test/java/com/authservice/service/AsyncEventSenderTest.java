@@ -0,0 +1,131 @@
+package com.authservice.service;
+
+import com.authservice.model.SpilledEvent;
+import com.authservice.repository.SpilledEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncEventSenderTest {
+
+    @Mock
+    private StreamBatchWriter writer;
+
+    @Mock
+    private SpilledEventRepository spill;
+
+    @Captor
+    private ArgumentCaptor<List<SpilledEvent>> spilled;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncEventSender sender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Two attempts, no backoff, so failure paths finish quickly
+        sender = new AsyncEventSender(writer, spill, new ObjectMapper(), meterRegistry,
+                100, 50, 2, Duration.ZERO, 10, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+    }
+
+    @Test
+    void enqueue_ShouldSendEventToTheStream() {
+        sender.enqueue(event("e-1"));
+
+        verify(writer, timeout(2000)).writeBatch(List.of(event("e-1")));
+        verifyNoInteractions(spill);
+    }
+
+    @Test
+    void enqueue_ShouldSpillBatchWhenEveryAttemptFails() {
+        doThrow(new RedisConnectionFailureException("down")).when(writer).writeBatch(anyList());
+
+        sender.enqueue(event("e-1"));
+
+        verify(spill, timeout(2000)).insert(spilled.capture());
+        verify(writer, times(2)).writeBatch(anyList());
+        assertEquals(1, spilled.getValue().size());
+        assertEquals(event("e-1"), spilled.getValue().get(0).getEventJson());
+        assertEquals("send_failed", spilled.getValue().get(0).getReason());
+    }
+
+    @Test
+    void enqueue_ShouldSpillWhenSenderHasStopped() {
+        sender.shutdown();
+
+        sender.enqueue(event("e-1"));
+
+        verify(spill).insert(spilled.capture());
+        assertEquals("queue_full", spilled.getValue().get(0).getReason());
+        assertEquals(1.0, meterRegistry.get("auth.events.spilled").tag("reason", "queue_full").counter().count());
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    void enqueue_ShouldNotThrowWhenSpillAlsoFails() {
+        sender.shutdown();
+        when(spill.insert(anyList())).thenThrow(new IllegalStateException("mongo down"));
+
+        assertDoesNotThrow(() -> sender.enqueue(event("e-1")));
+        assertEquals(0.0, meterRegistry.get("auth.events.spilled").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    void replaySpilled_ShouldResendOldestFirstAndDeleteDelivered() {
+        List<SpilledEvent> rows = List.of(
+                new SpilledEvent(event("e-1"), "send_failed"),
+                new SpilledEvent(event("e-2"), "queue_full"));
+        when(spill.findAllByOrderBySpilledAtAsc(any(Pageable.class))).thenReturn(rows, List.of());
+        when(spill.count()).thenReturn(0L);
+
+        sender.replaySpilled();
+
+        verify(writer).writeBatch(List.of(event("e-1"), event("e-2")));
+        verify(spill).deleteAll(rows);
+        assertEquals(2.0, meterRegistry.get("auth.events.replayed").counter().count());
+        assertEquals(0.0, meterRegistry.get("auth.events.spill.backlog").gauge().value());
+    }
+
+    @Test
+    void replaySpilled_ShouldKeepRowsWhileRedisIsDown() {
+        List<SpilledEvent> rows = List.of(new SpilledEvent(event("e-1"), "send_failed"));
+        when(spill.findAllByOrderBySpilledAtAsc(any(Pageable.class))).thenReturn(rows);
+        when(spill.count()).thenReturn(1L);
+        doThrow(new RedisConnectionFailureException("down")).when(writer).writeBatch(anyList());
+
+        sender.replaySpilled();
+
+        verify(writer, times(2)).writeBatch(anyList());
+        verify(spill, never()).deleteAll(anyIterable());
+        assertEquals(0.0, meterRegistry.get("auth.events.replayed").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.events.spill.backlog").gauge().value());
+    }
+
+    private static String event(String eventId) {
+        return "{\"event_id\":\"" + eventId + "\",\"event_type\":\"USER_REGISTERED\"}";
+    }
+}
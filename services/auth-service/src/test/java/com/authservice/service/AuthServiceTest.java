@@ -0,0 +1,108 @@
+package com.authservice.service;
+
+import com.authservice.dto.UserProfile;
+import com.authservice.exception.InvalidRefreshTokenException;
+import com.authservice.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokens;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    @Mock
+    private UserProfileCache userProfiles;
+
+    @Mock
+    private RefreshTokenService refreshTokens;
+
+    @Mock
+    private TokenRevocationList revocationList;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void refresh_ShouldIssueNewPairForActiveUser() {
+        when(refreshTokens.rotate("refresh-1")).thenReturn(new RefreshTokenService.Rotation("u_1", "refresh-2"));
+        when(userProfiles.get("u_1")).thenReturn(Optional.of(profile("ACTIVE")));
+        when(jwtService.generateToken("u_1", List.of("USER"))).thenReturn("access-2");
+        when(jwtService.getExpirationSeconds()).thenReturn(900L);
+
+        TokenPair tokens = authService.refresh("refresh-1");
+
+        assertEquals("access-2", tokens.accessToken());
+        assertEquals("refresh-2", tokens.refreshToken());
+        assertEquals(900L, tokens.expiresIn());
+    }
+
+    @Test
+    void refresh_ShouldRevokeSuccessorWhenUserIsNoLongerActive() {
+        when(refreshTokens.rotate("refresh-1")).thenReturn(new RefreshTokenService.Rotation("u_1", "refresh-2"));
+        when(userProfiles.get("u_1")).thenReturn(Optional.of(profile("SUSPENDED")));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh("refresh-1"));
+
+        verify(refreshTokens).revoke("refresh-2");
+        verify(jwtService, never()).generateToken(any(), any());
+    }
+
+    @Test
+    void logout_ShouldRevokeAccessTokenAndRefreshFamily() {
+        TokenClaims claims = new TokenClaims("u_1", List.of("USER"), "jti-1",
+                Instant.now(), Instant.now().plusSeconds(900));
+        when(verifiedTokens.verify("access-1")).thenReturn(claims);
+
+        authService.logout("access-1", "refresh-1");
+
+        verify(refreshTokens).revoke("refresh-1");
+        verify(revocationList).revoke("jti-1", claims.expiresAt());
+        verify(verifiedTokens).evict("access-1");
+    }
+
+    @Test
+    void logout_ShouldIgnoreInvalidAccessToken() {
+        when(verifiedTokens.verify("forged")).thenThrow(new JwtException("bad signature"));
+
+        authService.logout("forged", null);
+
+        verifyNoInteractions(revocationList, refreshTokens);
+    }
+
+    private static UserProfile profile(String status) {
+        UserProfile profile = new UserProfile();
+        profile.setUserId("u_1");
+        profile.setRoles(List.of("USER"));
+        profile.setStatus(status);
+        return profile;
+    }
+}
@@ -0,0 +1,109 @@
+package com.authservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginThrottleTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisProvider;
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    // email: 2 per 5/min, ip: 3 per 30/min, lookup: 2 per 20/min
+    private LoginThrottle throttle(String store, double emailRefillPerMinute) {
+        return new LoginThrottle(meterRegistry, redisProvider, store,
+                2, emailRefillPerMinute, 3, 30, 2, 20, 4, 1000);
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectOnceEmailBucketIsEmptyWithRetryAfter() {
+        LoginThrottle throttle = throttle("memory", 5);
+
+        assertEquals(0, throttle.tryAcquire("ana@example.com", "10.0.0.1"));
+        // Emails are normalised, so case and padding do not buy extra attempts
+        assertEquals(0, throttle.tryAcquire(" Ana@Example.com", "10.0.0.2"));
+        // 5 per minute refills one token every 12 seconds
+        assertEquals(12, throttle.tryAcquire("ana@example.com", "10.0.0.3"));
+        assertEquals(1.0, meterRegistry.get("auth.login.throttle")
+                .tag("result", "rejected").tag("key", "email").counter().count());
+    }
+
+    @Test
+    void tryAcquire_ShouldKeyEmailAndIpBucketsSeparately() {
+        LoginThrottle throttle = throttle("memory", 5);
+
+        assertEquals(0, throttle.tryAcquire("a@example.com", "10.0.0.1"));
+        assertEquals(0, throttle.tryAcquire("b@example.com", "10.0.0.1"));
+        assertEquals(0, throttle.tryAcquire("c@example.com", "10.0.0.1"));
+        // The IP has spent its 3 attempts; 30 per minute refills one every 2 seconds
+        assertEquals(2, throttle.tryAcquire("d@example.com", "10.0.0.1"));
+        // Another IP still has its own budget, and d@ has not been charged yet
+        assertEquals(0, throttle.tryAcquire("d@example.com", "10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("auth.login.throttle")
+                .tag("result", "rejected").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillEmailBucketOverTime() throws Exception {
+        // 6000 per minute: a token every 10ms
+        LoginThrottle throttle = throttle("memory", 6000);
+
+        assertEquals(0, throttle.tryAcquire("ana@example.com", null));
+        assertEquals(0, throttle.tryAcquire("ana@example.com", null));
+        assertTrue(throttle.tryAcquire("ana@example.com", null) > 0);
+
+        Thread.sleep(50);
+
+        assertEquals(0, throttle.tryAcquire("ana@example.com", null));
+    }
+
+    @Test
+    void tryAcquireLookup_ShouldNotSpendLoginBudget() {
+        LoginThrottle throttle = throttle("memory", 5);
+
+        assertEquals(0, throttle.tryAcquireLookup("10.0.0.1"));
+        assertEquals(0, throttle.tryAcquireLookup("10.0.0.1"));
+        assertEquals(3, throttle.tryAcquireLookup("10.0.0.1"));
+
+        assertEquals(0, throttle.tryAcquire("ana@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    void tryAcquire_ShouldFallBackToLocalBucketsWhenRedisFails() {
+        when(redisProvider.getIfAvailable()).thenReturn(redis);
+        when(redis.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        LoginThrottle throttle = throttle("redis", 5);
+
+        assertEquals(0, throttle.tryAcquire("ana@example.com", "10.0.0.1"));
+        assertEquals(0, throttle.tryAcquire("ana@example.com", "10.0.0.1"));
+        // The local email bucket still applies while Redis is down
+        assertEquals(12, throttle.tryAcquire("ana@example.com", "10.0.0.1"));
+        // Every bucket check (IP, then email) went to Redis first
+        assertEquals(6.0, meterRegistry.get("auth.login.throttle").tag("result", "fallback").counter().count());
+    }
+}
@@ -0,0 +1,131 @@
+package com.authservice.service;
+
+import com.authservice.exception.InvalidRefreshTokenException;
+import com.authservice.model.RefreshToken;
+import com.authservice.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final String PRESENTED = "presented-refresh-token";
+
+    @Mock
+    private RefreshTokenRepository repository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(repository, mongoTemplate, Duration.ofDays(30), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void rotate_ShouldIssueSuccessorInSameFamily() {
+        whenMarkedUsed(stored(null, Instant.now().plus(Duration.ofDays(1))));
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(PRESENTED);
+
+        assertEquals("u_1", rotation.userId());
+        assertNotEquals(PRESENTED, rotation.refreshToken());
+        ArgumentCaptor<RefreshToken> inserted = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository).insert(inserted.capture());
+        assertEquals("fam_1", inserted.getValue().getFamilyId());
+        assertEquals(VerifiedTokenCache.hash(rotation.refreshToken()), inserted.getValue().getTokenHash());
+        verify(repository, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    void rotate_ShouldIssueAnotherSuccessorWhenReusedWithinGrace() {
+        whenMarkedUsed(null);
+        when(repository.findByTokenHash(VerifiedTokenCache.hash(PRESENTED)))
+                .thenReturn(Optional.of(stored(Instant.now().minusSeconds(2), Instant.now().plus(Duration.ofDays(1)))));
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(PRESENTED);
+
+        assertEquals("u_1", rotation.userId());
+        verify(repository).insert(any(RefreshToken.class));
+        verify(repository, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    void rotate_ShouldRevokeFamilyWhenReplayedAfterGrace() {
+        whenMarkedUsed(null);
+        when(repository.findByTokenHash(VerifiedTokenCache.hash(PRESENTED)))
+                .thenReturn(Optional.of(stored(Instant.now().minusSeconds(60), Instant.now().plus(Duration.ofDays(1)))));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(PRESENTED));
+
+        verify(repository).deleteByFamilyId("fam_1");
+        verify(repository, never()).insert(any(RefreshToken.class));
+    }
+
+    @Test
+    void rotate_ShouldRejectExpiredTokenWithoutRevokingFamily() {
+        whenMarkedUsed(null);
+        when(repository.findByTokenHash(VerifiedTokenCache.hash(PRESENTED)))
+                .thenReturn(Optional.of(stored(null, Instant.now().minusSeconds(60))));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(PRESENTED));
+
+        verify(repository, never()).deleteByFamilyId(anyString());
+        verify(repository, never()).insert(any(RefreshToken.class));
+    }
+
+    @Test
+    void rotate_ShouldRejectUnknownToken() {
+        whenMarkedUsed(null);
+        when(repository.findByTokenHash(VerifiedTokenCache.hash(PRESENTED))).thenReturn(Optional.empty());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(PRESENTED));
+
+        verify(repository, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    void revoke_ShouldDeleteWholeFamily() {
+        when(repository.findByTokenHash(VerifiedTokenCache.hash(PRESENTED)))
+                .thenReturn(Optional.of(stored(null, Instant.now().plus(Duration.ofDays(1)))));
+
+        refreshTokenService.revoke(PRESENTED);
+
+        verify(repository).deleteByFamilyId("fam_1");
+    }
+
+    private void whenMarkedUsed(RefreshToken result) {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(RefreshToken.class))).thenReturn(result);
+    }
+
+    private static RefreshToken stored(Instant usedAt, Instant expiresAt) {
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(VerifiedTokenCache.hash(PRESENTED));
+        token.setUserId("u_1");
+        token.setFamilyId("fam_1");
+        token.setUsedAt(usedAt);
+        token.setExpiresAt(expiresAt);
+        return token;
+    }
+}
@@ -0,0 +1,43 @@
+package com.authservice.service;
+
+import com.authservice.config.JwtRsaProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RsaKeyRingTest {
+
+    @Test
+    void constructor_ShouldUseEphemeralKeyUnderDevProfile() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("dev");
+
+        RsaKeyRing keyRing = new RsaKeyRing(new JwtRsaProperties(), environment, "RS256");
+
+        assertTrue(keyRing.getActiveKid().startsWith("ephemeral-"));
+        assertNotNull(keyRing.getActivePrivateKey());
+        assertNotNull(keyRing.findPublicKey(keyRing.getActiveKid()));
+        assertEquals(1, ((List<?>) keyRing.getJwks().get("keys")).size());
+    }
+
+    @Test
+    void constructor_ShouldRefuseToStartWithoutKeysOutsideDev() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        assertThrows(IllegalStateException.class,
+                () -> new RsaKeyRing(new JwtRsaProperties(), environment, "RS256"));
+    }
+
+    @Test
+    void constructor_ShouldNeedNoKeysInHs256Mode() {
+        RsaKeyRing keyRing = new RsaKeyRing(new JwtRsaProperties(), new MockEnvironment(), "HS256");
+
+        assertNull(keyRing.getActiveKid());
+        assertEquals(Map.of("keys", List.of()), keyRing.getJwks());
+    }
+}
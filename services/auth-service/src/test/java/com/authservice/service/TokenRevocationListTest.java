@@ -0,0 +1,92 @@
+package com.authservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(redis, listenerContainer, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void revoke_ShouldTakeEffectLocallyAndBeSharedThroughRedis() {
+        when(redis.opsForZSet()).thenReturn(zSetOperations);
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        revocationList.revoke("jti-1", expiresAt);
+
+        assertTrue(revocationList.isRevoked("jti-1"));
+        assertFalse(revocationList.isRevoked("jti-2"));
+        assertFalse(revocationList.isRevoked(null));
+        verify(zSetOperations).add("auth:revoked-jti", "jti-1", (double) expiresAt.getEpochSecond());
+        verify(redis).convertAndSend("auth:revoked-jti:events", "jti-1:" + expiresAt.getEpochSecond());
+    }
+
+    @Test
+    void revoke_ShouldIgnoreExpiredTokens() {
+        revocationList.revoke("jti-1", Instant.now().minusSeconds(1));
+
+        assertFalse(revocationList.isRevoked("jti-1"));
+        verifyNoInteractions(redis);
+    }
+
+    @Test
+    void pubSub_ShouldMirrorRevocationsFromOtherReplicas() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        long expiry = Instant.now().plusSeconds(600).getEpochSecond();
+
+        listener.getValue().onMessage(new DefaultMessage(
+                "auth:revoked-jti:events".getBytes(StandardCharsets.UTF_8),
+                ("jti-7:" + expiry).getBytes(StandardCharsets.UTF_8)), null);
+
+        assertTrue(revocationList.isRevoked("jti-7"));
+    }
+
+    @Test
+    void resync_ShouldLoadRevocationsMissedOverPubSub() {
+        when(redis.opsForZSet()).thenReturn(zSetOperations);
+        double expiry = Instant.now().plusSeconds(600).getEpochSecond();
+        when(zSetOperations.rangeByScoreWithScores(eq("auth:revoked-jti"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(ZSetOperations.TypedTuple.of("jti-9", expiry)));
+
+        revocationList.resync();
+
+        assertTrue(revocationList.isRevoked("jti-9"));
+    }
+}
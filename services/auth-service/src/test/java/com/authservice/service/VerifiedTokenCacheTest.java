@@ -0,0 +1,57 @@
+package com.authservice.service;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private TokenRevocationList revocationList;
+
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", "test-secret-test-secret-test-secret-0123");
+        ReflectionTestUtils.setField(jwtService, "expiration", Duration.ofMinutes(15).toMillis());
+        jwtService.init();
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, revocationList, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void verify_ShouldReturnClaimsWithTokenId() {
+        String token = jwtService.generateToken("u_1", List.of("USER"));
+
+        TokenClaims claims = verifiedTokenCache.verify(token);
+
+        assertEquals("u_1", claims.userId());
+        assertEquals(List.of("USER"), claims.roles());
+        assertNotNull(claims.tokenId());
+    }
+
+    @Test
+    void verify_ShouldRejectRevokedTokenOnCacheHit() {
+        String token = jwtService.generateToken("u_1", List.of("USER"));
+        TokenClaims claims = verifiedTokenCache.verify(token);
+
+        when(revocationList.isRevoked(claims.tokenId())).thenReturn(true);
+
+        assertThrows(JwtException.class, () -> verifiedTokenCache.verify(token));
+    }
+}
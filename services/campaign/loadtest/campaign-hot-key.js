@@ -0,0 +1,46 @@
+// k6 hot-key test: most reads go to a handful of campaigns, as when one goes viral.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e IDS=c_1,c_2,...,c_100 loadtest/campaign-hot-key.js
+//
+// Ids are picked with a Zipf-like skew (SKEW, default 1.2), so IDS[0] gets the bulk of the
+// traffic. Run with the read model disabled so reads reach Mongo, and compare Mongo
+// opcounters (db.serverStatus().opcounters.query) with the coalescing ratio from
+// campaign_lookup_coalesced_total{role="follower"} / sum(campaign_lookup_coalesced_total).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const IDS = (__ENV.IDS || '').split(',').filter((id) => id.length > 0);
+const SKEW = parseFloat(__ENV.SKEW || '1.2');
+
+// Cumulative Zipf weights over IDS
+const CDF = (() => {
+  const weights = IDS.map((_, rank) => 1 / Math.pow(rank + 1, SKEW));
+  const total = weights.reduce((a, b) => a + b, 0);
+  let running = 0;
+  return weights.map((w) => (running += w / total));
+})();
+
+export const options = {
+  scenarios: {
+    hot: {
+      executor: 'constant-arrival-rate',
+      rate: 3000,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 300,
+      maxVUs: 2000,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export default function () {
+  const r = Math.random();
+  let i = 0;
+  while (i < CDF.length - 1 && CDF[i] < r) i++;
+  const res = http.get(`${BASE_URL}/campaigns/${IDS[i]}`, { tags: { name: 'get' } });
+  check(res, { 'get ok': (r2) => r2.status === 200 });
+}
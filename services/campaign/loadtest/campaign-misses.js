@@ -0,0 +1,32 @@
+// k6 miss-storm test: GET /campaigns/{id} for ids that do not exist, the way scrapers
+// and stale links hit the service.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e DISTINCT=5000 loadtest/campaign-misses.js
+//
+// DISTINCT bounds how many different unknown ids are requested. Compare a run with
+// CAMPAIGN_NEGATIVE_CACHE_TTL=0s against the default: watch http_req_duration, Mongo
+// opcounters (db.serverStatus().opcounters.query) and cache_gets_total{cache="campaign.missing"}.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const DISTINCT = parseInt(__ENV.DISTINCT || '5000', 10);
+
+export const options = {
+  scenarios: {
+    misses: {
+      executor: 'constant-arrival-rate',
+      rate: 2000,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+    },
+  },
+};
+
+export default function () {
+  const id = `c_missing${Math.floor(Math.random() * DISTINCT)}`;
+  const res = http.get(`${BASE_URL}/campaigns/${id}`, { tags: { name: 'miss' } });
+  check(res, { 'is 404': (r) => r.status === 404 });
+}
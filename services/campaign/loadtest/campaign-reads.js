@@ -0,0 +1,44 @@
+// k6 read-path load test for the campaign service.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e IDS=c_1,c_2,c_3 loadtest/campaign-reads.js
+//
+// Run it against the servlet and the reactive profile on the same hardware and compare
+// http_req_duration percentiles, max sustained iterations/s and process RSS
+// (process_resident_memory_bytes / jvm_memory_used_bytes on /actuator/prometheus).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const IDS = (__ENV.IDS || '').split(',').filter((id) => id.length > 0);
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'ramping-arrival-rate',
+      startRate: 100,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 1000, duration: '1m' },
+        { target: 3000, duration: '2m' },
+        { target: 3000, duration: '2m' },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export default function () {
+  if (IDS.length > 0 && Math.random() < 0.7) {
+    const id = IDS[Math.floor(Math.random() * IDS.length)];
+    const res = http.get(`${BASE_URL}/campaigns/${id}`, { tags: { name: 'get' } });
+    check(res, { 'get ok': (r) => r.status === 200 });
+    return;
+  }
+  const page = Math.floor(Math.random() * 5);
+  const res = http.get(`${BASE_URL}/campaigns?status=ACTIVE&page=${page}&size=20`, { tags: { name: 'list' } });
+  check(res, { 'list ok': (r) => r.status === 200 });
+}
@@ -0,0 +1,28 @@
+package com.fundraising.campaign.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class MongoConfig {
+
+    /**
+     * Wraps a campaign write and its outbox row in one Mongo transaction. Mongo only
+     * supports transactions on replica sets, so standalone dev instances can switch
+     * this off with {@code event.outbox.transactional=false}.
+     */
+    @Bean
+    public TransactionOperations campaignTransactions(
+            MongoDatabaseFactory databaseFactory,
+            @Value("${event.outbox.transactional:true}") boolean transactional) {
+        if (!transactional) {
+            return TransactionOperations.withoutTransaction();
+        }
+        return new TransactionTemplate(new MongoTransactionManager(databaseFactory));
+    }
+}
@@ -0,0 +1,71 @@
+package com.fundraising.campaign.controller;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.dto.CampaignBatchRequest;
+import com.fundraising.campaign.dto.CampaignBatchResponse;
+import com.fundraising.campaign.dto.CampaignResponse;
+import com.fundraising.campaign.service.CampaignService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves many campaigns in one call for pages that render lists of campaign cards.
+ * Lives on its own mapping because {@code /campaigns:batch} is not under the
+ * {@code /campaigns/} prefix of {@link CampaignController}.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/campaigns:batch")
+public class CampaignBatchController {
+    private final CampaignService campaignService;
+    private final CampaignResponseMapper responseMapper;
+    private final int maxIds;
+
+    public CampaignBatchController(
+            CampaignService campaignService,
+            CampaignResponseMapper responseMapper,
+            @Value("${campaign.batch.max-ids:200}") int maxIds) {
+        this.campaignService = campaignService;
+        this.responseMapper = responseMapper;
+        this.maxIds = maxIds;
+    }
+
+    @GetMapping
+    public CampaignBatchResponse getCampaigns(@RequestParam List<String> ids) {
+        return resolve(ids);
+    }
+
+    @PostMapping
+    public CampaignBatchResponse getCampaigns(@Valid @RequestBody CampaignBatchRequest request) {
+        return resolve(request.getIds());
+    }
+
+    private CampaignBatchResponse resolve(List<String> ids) {
+        Set<String> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > maxIds) {
+            throw new RuntimeException("At most " + maxIds + " campaign ids can be requested at once");
+        }
+
+        Map<String, Campaign> campaigns = campaignService.getCampaigns(uniqueIds);
+
+        List<CampaignBatchResponse.Item> results = new ArrayList<>(ids.size());
+        int found = 0;
+        for (String id : ids) {
+            Campaign campaign = campaigns.get(id);
+            CampaignResponse response = campaign == null ? null : responseMapper.toResponse(campaign);
+            if (response != null) {
+                found++;
+            }
+            results.add(new CampaignBatchResponse.Item(id, response));
+        }
+        return new CampaignBatchResponse(results, found, ids.size() - found);
+    }
+}
@@ -6,21 +6,34 @@ import com.fundraising.campaign.dto.CampaignResponse;
 import com.fundraising.campaign.dto.CreateCampaignRequest;
 import com.fundraising.campaign.dto.UpdateCampaignRequest;
 import com.fundraising.campaign.service.CampaignService;
+import com.fundraising.campaign.views.CampaignViewCounter;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/campaigns")
 public class CampaignController {
     private final CampaignService campaignService;
+    private final CampaignResponseMapper responseMapper;
+    private final CampaignViewCounter viewCounter;
 
-    public CampaignController(CampaignService campaignService) {
+    public CampaignController(CampaignService campaignService, CampaignResponseMapper responseMapper,
+                              CampaignViewCounter viewCounter) {
         this.campaignService = campaignService;
+        this.responseMapper = responseMapper;
+        this.viewCounter = viewCounter;
     }
 
     @PostMapping
@@ -29,7 +42,7 @@ public class CampaignController {
             @Valid @RequestBody CreateCampaignRequest request,
             @RequestHeader("X-User-Id") String userId) {
         Campaign campaign = campaignService.createCampaign(request, userId);
-        return mapToResponse(campaign);
+        return responseMapper.toResponse(campaign);
     }
 
     @GetMapping
@@ -42,13 +55,30 @@ public class CampaignController {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Campaign> campaigns = campaignService.listCampaigns(pageable, status, q, ownerId);
-        return campaigns.map(this::mapToResponse);
+        return campaigns.map(responseMapper::toResponse);
     }
 
     @GetMapping("/{id}")
-    public CampaignResponse getCampaign(@PathVariable String id) {
+    public ResponseEntity<CampaignResponse> getCampaign(@PathVariable String id, WebRequest request) {
+        // Pollers send If-None-Match; answer them from the version alone
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> etag = campaignService.getCampaignEtag(id);
+            if (etag.isPresent() && request.checkNotModified(etag.get())) {
+                return null;
+            }
+        }
         Campaign campaign = campaignService.getCampaign(id);
-        return mapToResponse(campaign);
+        viewCounter.recordView(campaign.getCampaignId());
+        return ResponseEntity.ok()
+                .eTag(CampaignService.etag(campaign))
+                .body(responseMapper.toResponse(campaign));
+    }
+
+    @GetMapping("/by-slug/{slug}")
+    public CampaignResponse getCampaignBySlug(@PathVariable String slug) {
+        Campaign campaign = campaignService.getCampaignBySlug(slug);
+        viewCounter.recordView(campaign.getCampaignId());
+        return responseMapper.toResponse(campaign);
     }
 
     @PutMapping("/{id}")
@@ -57,27 +87,6 @@ public class CampaignController {
             @Valid @RequestBody UpdateCampaignRequest request,
             @RequestHeader("X-User-Id") String userId) {
         Campaign campaign = campaignService.updateCampaign(id, request, userId);
-        return mapToResponse(campaign);
-    }
-
-    private CampaignResponse mapToResponse(Campaign campaign) {
-        CampaignResponse response = new CampaignResponse();
-        response.setCampaignId(campaign.getCampaignId());
-        response.setTitle(campaign.getTitle());
-        response.setSlug(campaign.getSlug());
-        response.setDescription(campaign.getDescription());
-        response.setGoalAmountCents(campaign.getGoalAmountCents());
-        response.setCollectedAmountCents(campaign.getCollectedAmountCents());
-        response.setCurrency(campaign.getCurrency());
-        response.setOwnerUserId(campaign.getOwnerUserId());
-        response.setStatus(campaign.getStatus());
-        response.setTags(campaign.getTags());
-        response.setVisible(campaign.getVisible());
-        response.setStartDate(campaign.getStartDate());
-        response.setEndDate(campaign.getEndDate());
-        response.setCreatedAt(campaign.getCreatedAt());
-        response.setUpdatedAt(campaign.getUpdatedAt());
-        response.setMetadata(campaign.getMetadata());
-        return response;
+        return responseMapper.toResponse(campaign);
     }
 }
\ No newline at end of file
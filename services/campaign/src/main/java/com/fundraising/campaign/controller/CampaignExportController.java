@@ -0,0 +1,86 @@
+package com.fundraising.campaign.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fundraising.campaign.domain.CampaignStatus;
+import com.fundraising.campaign.service.CampaignExportService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Bulk NDJSON export for finance and analytics. One campaign per line, written as the
+ * cursor is read, followed by a final {@code {"resumeToken": "..."}} line; pass it back
+ * as {@code resumeAfter} to fetch only campaigns updated since.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/campaigns/export")
+public class CampaignExportController {
+    private static final int FLUSH_EVERY = 200;
+
+    private final CampaignExportService exportService;
+    private final CampaignResponseMapper responseMapper;
+    private final ObjectMapper objectMapper;
+
+    public CampaignExportController(CampaignExportService exportService, CampaignResponseMapper responseMapper,
+                                    ObjectMapper objectMapper) {
+        this.exportService = exportService;
+        this.responseMapper = responseMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) CampaignStatus status,
+            @RequestParam(required = false) String ownerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedTo,
+            @RequestParam(required = false) String resumeAfter) {
+        if (resumeAfter != null) {
+            exportService.validateResumeToken(resumeAfter);
+        }
+
+        StreamingResponseBody body = output -> {
+            OutputStream out = new BufferedOutputStream(output, 64 * 1024);
+            int[] written = {0};
+            String resumeToken = exportService.export(status, ownerId, updatedFrom, updatedTo, resumeAfter, campaign -> {
+                writeLine(out, responseMapper.toResponse(campaign));
+                if (++written[0] % FLUSH_EVERY == 0) {
+                    flush(out);
+                }
+            });
+            writeLine(out, Map.of("resumeToken", resumeToken == null ? "" : resumeToken));
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(OutputStream out) {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.fundraising.campaign.controller;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.dto.CampaignResponse;
+import com.fundraising.campaign.views.CampaignViewCounter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CampaignResponseMapper {
+    private final CampaignViewCounter viewCounter;
+
+    public CampaignResponseMapper(CampaignViewCounter viewCounter) {
+        this.viewCounter = viewCounter;
+    }
+
+    public CampaignResponse toResponse(Campaign campaign) {
+        CampaignResponse response = new CampaignResponse();
+        response.setCampaignId(campaign.getCampaignId());
+        response.setTitle(campaign.getTitle());
+        response.setSlug(campaign.getSlug());
+        response.setDescription(campaign.getDescription());
+        response.setGoalAmountCents(campaign.getGoalAmountCents());
+        response.setCollectedAmountCents(campaign.getCollectedAmountCents());
+        response.setCurrency(campaign.getCurrency());
+        response.setOwnerUserId(campaign.getOwnerUserId());
+        response.setStatus(campaign.getStatus());
+        response.setTags(campaign.getTags());
+        response.setVisible(campaign.getVisible());
+        response.setStartDate(campaign.getStartDate());
+        response.setEndDate(campaign.getEndDate());
+        response.setCreatedAt(campaign.getCreatedAt());
+        response.setUpdatedAt(campaign.getUpdatedAt());
+        response.setMetadata(campaign.getMetadata());
+        // Persisted count plus what this instance has not flushed yet
+        long persistedViews = campaign.getViewCount() != null ? campaign.getViewCount() : 0;
+        response.setViewCount(persistedViews + viewCounter.pendingViews(campaign.getCampaignId()));
+        response.setVersion(campaign.getVersion());
+        return response;
+    }
+}
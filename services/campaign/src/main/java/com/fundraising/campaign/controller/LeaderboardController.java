@@ -0,0 +1,57 @@
+package com.fundraising.campaign.controller;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.dto.RankedCampaignResponse;
+import com.fundraising.campaign.leaderboard.CampaignLeaderboard;
+import com.fundraising.campaign.service.CampaignService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/campaigns")
+public class LeaderboardController {
+    private static final int MAX_LIMIT = 100;
+
+    private final CampaignLeaderboard leaderboard;
+    private final CampaignService campaignService;
+    private final CampaignResponseMapper responseMapper;
+
+    public LeaderboardController(CampaignLeaderboard leaderboard, CampaignService campaignService,
+                                 CampaignResponseMapper responseMapper) {
+        this.leaderboard = leaderboard;
+        this.campaignService = campaignService;
+        this.responseMapper = responseMapper;
+    }
+
+    @GetMapping("/leaderboard")
+    public List<RankedCampaignResponse> leaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return rank(leaderboard.topRaised(clamp(limit)));
+    }
+
+    @GetMapping("/trending")
+    public List<RankedCampaignResponse> trending(@RequestParam(defaultValue = "10") int limit) {
+        return rank(leaderboard.trending(clamp(limit)));
+    }
+
+    private List<RankedCampaignResponse> rank(Map<String, Double> scores) {
+        Map<String, Campaign> campaigns = campaignService.getCampaigns(scores.keySet());
+        List<RankedCampaignResponse> ranked = new ArrayList<>(scores.size());
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            Campaign campaign = campaigns.get(entry.getKey());
+            if (campaign != null) {
+                ranked.add(new RankedCampaignResponse(ranked.size() + 1, entry.getValue(),
+                        responseMapper.toResponse(campaign)));
+            }
+        }
+        return ranked;
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
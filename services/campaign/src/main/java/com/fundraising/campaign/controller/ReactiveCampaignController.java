@@ -0,0 +1,49 @@
+package com.fundraising.campaign.controller;
+
+import com.fundraising.campaign.domain.CampaignStatus;
+import com.fundraising.campaign.dto.CampaignResponse;
+import com.fundraising.campaign.service.ReactiveCampaignService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux read API for the {@code reactive} profile. Listings stream as results arrive
+ * from the cursor (a JSON array, or one object per line for {@code application/x-ndjson})
+ * instead of being buffered into a {@code Page}; no count query is issued.
+ */
+@RestController
+@RequestMapping("/campaigns")
+@Profile("reactive")
+public class ReactiveCampaignController {
+    private final ReactiveCampaignService campaignService;
+    private final CampaignResponseMapper responseMapper;
+
+    public ReactiveCampaignController(ReactiveCampaignService campaignService, CampaignResponseMapper responseMapper) {
+        this.campaignService = campaignService;
+        this.responseMapper = responseMapper;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CampaignResponse> listCampaigns(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) CampaignStatus status,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String ownerId) {
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        return campaignService.listCampaigns(pageable, status, q, ownerId)
+                .map(responseMapper::toResponse);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<CampaignResponse> getCampaign(@PathVariable String id) {
+        return campaignService.getCampaign(id).map(responseMapper::toResponse);
+    }
+}
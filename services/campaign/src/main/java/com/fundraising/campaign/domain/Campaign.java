@@ -1,6 +1,8 @@
 package com.fundraising.campaign.domain;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -9,6 +11,8 @@ import java.util.List;
 import java.util.Map;
 
 @Document(collection = "campaigns")
+@CompoundIndex(name = "status_endDate", def = "{'status': 1, 'endDate': 1}")
+@CompoundIndex(name = "updatedAt_campaignId", def = "{'updatedAt': 1, 'campaignId': 1}")
 public class Campaign {
     @Id
     private String id;
@@ -42,6 +46,10 @@ public class Campaign {
     private Instant createdAt;
     private Instant updatedAt;
     private Map<String, Object> metadata;
+    private Long viewCount;
+
+    @Version
+    private Long version;
 
     public Campaign() {}
 
@@ -96,4 +104,10 @@ public class Campaign {
 
     public Map<String, Object> getMetadata() { return metadata; }
     public void setMetadata(Map<String, Object> metadata) { this.metadata = metadata; }
+
+    public Long getViewCount() { return viewCount; }
+    public void setViewCount(Long viewCount) { this.viewCount = viewCount; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.fundraising.campaign.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "campaign_outbox")
+@CompoundIndex(name = "published_createdAt", def = "{'published': 1, 'createdAt': 1}")
+public class OutboxEvent {
+    @Id
+    private String eventId;
+
+    private String aggregateId;
+    private String eventType;
+
+    // Serialized event envelope, forwarded to the stream as-is
+    private String event;
+
+    private Instant createdAt;
+    private boolean published;
+
+    @Indexed(expireAfter = "7d")
+    private Instant publishedAt;
+
+    public OutboxEvent() {}
+
+    // Getters and Setters
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+
+    public String getAggregateId() { return aggregateId; }
+    public void setAggregateId(String aggregateId) { this.aggregateId = aggregateId; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getEvent() { return event; }
+    public void setEvent(String event) { this.event = event; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public boolean isPublished() { return published; }
+    public void setPublished(boolean published) { this.published = published; }
+
+    public Instant getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(Instant publishedAt) { this.publishedAt = publishedAt; }
+}
@@ -0,0 +1,14 @@
+package com.fundraising.campaign.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class CampaignBatchRequest {
+    @NotEmpty(message = "At least one campaign id is required")
+    private List<String> ids;
+
+    // Getters and Setters
+    public List<String> getIds() { return ids; }
+    public void setIds(List<String> ids) { this.ids = ids; }
+}
@@ -0,0 +1,38 @@
+package com.fundraising.campaign.dto;
+
+import java.util.List;
+
+public class CampaignBatchResponse {
+    // One entry per requested id, in request order
+    private List<Item> results;
+    private int found;
+    private int missing;
+
+    public CampaignBatchResponse(List<Item> results, int found, int missing) {
+        this.results = results;
+        this.found = found;
+        this.missing = missing;
+    }
+
+    // Getters
+    public List<Item> getResults() { return results; }
+    public int getFound() { return found; }
+    public int getMissing() { return missing; }
+
+    public static class Item {
+        private String campaignId;
+        private boolean found;
+        private CampaignResponse campaign;
+
+        public Item(String campaignId, CampaignResponse campaign) {
+            this.campaignId = campaignId;
+            this.found = campaign != null;
+            this.campaign = campaign;
+        }
+
+        // Getters
+        public String getCampaignId() { return campaignId; }
+        public boolean isFound() { return found; }
+        public CampaignResponse getCampaign() { return campaign; }
+    }
+}
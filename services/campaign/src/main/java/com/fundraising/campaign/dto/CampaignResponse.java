@@ -23,6 +23,8 @@ public class CampaignResponse {
     private Instant createdAt;
     private Instant updatedAt;
     private Map<String, Object> metadata;
+    private Long viewCount;
+    private Long version;
 
     // Getters and Setters
     public String getCampaignId() { return campaignId; }
@@ -72,4 +74,10 @@ public class CampaignResponse {
 
     public Map<String, Object> getMetadata() { return metadata; }
     public void setMetadata(Map<String, Object> metadata) { this.metadata = metadata; }
+
+    public Long getViewCount() { return viewCount; }
+    public void setViewCount(Long viewCount) { this.viewCount = viewCount; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.fundraising.campaign.dto;
+
+public class RankedCampaignResponse {
+    private int rank;
+    private double score;
+    private CampaignResponse campaign;
+
+    public RankedCampaignResponse(int rank, double score, CampaignResponse campaign) {
+        this.rank = rank;
+        this.score = score;
+        this.campaign = campaign;
+    }
+
+    // Getters
+    public int getRank() { return rank; }
+    public double getScore() { return score; }
+    public CampaignResponse getCampaign() { return campaign; }
+}
@@ -20,6 +20,9 @@ public class UpdateCampaignRequest {
     private Instant endDate;
     private Map<String, Object> metadata;
 
+    // Version the client last read; when set, the update only applies if it still matches
+    private Long version;
+
     // Getters and Setters
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
@@ -41,4 +44,7 @@ public class UpdateCampaignRequest {
 
     public Map<String, Object> getMetadata() { return metadata; }
     public void setMetadata(Map<String, Object> metadata) { this.metadata = metadata; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
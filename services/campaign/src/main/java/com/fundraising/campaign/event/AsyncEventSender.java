@@ -0,0 +1,190 @@
+package com.fundraising.campaign.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded hand-off between request threads and Redis. Callers enqueue serialized
+ * events; a single background thread drains the queue and sends whatever has
+ * accumulated as one pipelined batch.
+ */
+public class AsyncEventSender {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEventSender.class);
+
+    public enum OverflowPolicy {
+        /** Wait up to the offer timeout for space, then drop the event. */
+        BLOCK,
+        /** Drop the event being published. */
+        DROP_NEWEST,
+        /** Evict the oldest queued event to make room. */
+        DROP_OLDEST,
+        /** Send synchronously on the publishing thread. */
+        CALLER_RUNS
+    }
+
+    private final StreamBatchWriter writer;
+    private final BlockingQueue<String> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration offerTimeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    private final Timer sendLatency;
+    private final DistributionSummary batchSizes;
+    private final Counter sent;
+    private final Counter droppedQueueFull;
+    private final Counter droppedSendFailed;
+    private final Counter droppedShutdown;
+
+    private final Thread senderThread;
+    private volatile boolean running = true;
+
+    public AsyncEventSender(StreamBatchWriter writer, MeterRegistry meterRegistry, int queueCapacity, int batchSize,
+                            OverflowPolicy overflowPolicy, Duration offerTimeout, int maxAttempts, Duration retryBackoff) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeout = offerTimeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+
+        this.sendLatency = Timer.builder("campaign.events.send.latency")
+                .description("Time to send one pipelined batch of events to Redis")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("campaign.events.batch.size")
+                .description("Events per pipelined batch")
+                .register(meterRegistry);
+        this.sent = Counter.builder("campaign.events.sent").register(meterRegistry);
+        this.droppedQueueFull = droppedCounter(meterRegistry, "queue_full");
+        this.droppedSendFailed = droppedCounter(meterRegistry, "send_failed");
+        this.droppedShutdown = droppedCounter(meterRegistry, "shutdown");
+        meterRegistry.gauge("campaign.events.queue.depth", queue, BlockingQueue::size);
+
+        this.senderThread = new Thread(this::drainLoop, "campaign-event-sender");
+        this.senderThread.setDaemon(true);
+        this.senderThread.start();
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("campaign.events.dropped")
+                .description("Events that were never sent to Redis")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public void enqueue(String eventJson) {
+        if (queue.offer(eventJson)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(eventJson, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        droppedQueueFull.increment();
+                        logger.warn("Event queue full after {}ms, dropping event", offerTimeout.toMillis());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedQueueFull.increment();
+                }
+            }
+            case DROP_NEWEST -> droppedQueueFull.increment();
+            case DROP_OLDEST -> {
+                while (!queue.offer(eventJson)) {
+                    if (queue.poll() != null) {
+                        droppedQueueFull.increment();
+                    }
+                }
+            }
+            case CALLER_RUNS -> sendWithRetry(List.of(eventJson));
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                String first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendWithRetry(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendWithRetry(List<String> batch) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            long start = System.nanoTime();
+            try {
+                writer.writeBatch(batch);
+                sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                batchSizes.record(batch.size());
+                sent.increment(batch.size());
+                return;
+            } catch (Exception e) {
+                logger.warn("Failed to send batch of {} events (attempt {}/{})", batch.size(), attempt, maxAttempts, e);
+                if (attempt < maxAttempts && !sleepBeforeRetry(attempt)) {
+                    break;
+                }
+            }
+        }
+        droppedSendFailed.increment(batch.size());
+        logger.error("Dropping batch of {} events after {} attempts", batch.size(), maxAttempts);
+    }
+
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoff.toMillis() * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting work and gives the sender thread up to {@code timeout} to
+     * flush what is already queued. Anything left after that is counted as dropped.
+     */
+    public void shutdown(Duration timeout) {
+        running = false;
+        try {
+            senderThread.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = queue.size();
+        if (remaining > 0) {
+            queue.clear();
+            droppedShutdown.increment(remaining);
+            logger.error("Dropped {} queued events on shutdown", remaining);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.fundraising.campaign.event;
+
+import com.fundraising.campaign.domain.Campaign;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the platform event envelope shared by every campaign event publisher.
+ */
+@Component
+public class CampaignEventFactory {
+
+    public Map<String, Object> createEvent(String eventType, Campaign campaign) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("campaignId", campaign.getCampaignId());
+        payload.put("title", campaign.getTitle());
+        payload.put("goalAmountCents", campaign.getGoalAmountCents());
+        payload.put("currency", campaign.getCurrency());
+        payload.put("ownerUserId", campaign.getOwnerUserId());
+        payload.put("startDate", campaign.getStartDate());
+        payload.put("endDate", campaign.getEndDate());
+        payload.put("status", campaign.getStatus());
+        payload.put("metadata", campaign.getMetadata());
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("event_id", UUID.randomUUID().toString());
+        event.put("event_type", eventType);
+        event.put("occurred_at", Instant.now().toString());
+        event.put("source_service", "campaign-service");
+        event.put("correlation_id", UUID.randomUUID().toString());
+        event.put("payload", payload);
+
+        return event;
+    }
+}
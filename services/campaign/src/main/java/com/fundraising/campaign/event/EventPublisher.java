@@ -2,7 +2,10 @@ package com.fundraising.campaign.event;
 
 import com.fundraising.campaign.domain.Campaign;
 
+import java.util.List;
+
 public interface EventPublisher {
     void publishCampaignCreated(Campaign campaign);
     void publishCampaignUpdated(Campaign campaign);
+    void publishCampaignsCompleted(List<Campaign> campaigns);
 }
\ No newline at end of file
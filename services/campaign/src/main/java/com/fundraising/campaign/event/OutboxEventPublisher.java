@@ -0,0 +1,78 @@
+package com.fundraising.campaign.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.domain.OutboxEvent;
+import com.fundraising.campaign.repository.OutboxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records campaign events in the {@code campaign_outbox} collection. Called inside
+ * the same Mongo transaction as the campaign write, so either both are stored or
+ * neither is; {@link OutboxRelay} forwards the rows to Redis afterwards.
+ */
+@Component
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxEventPublisher implements EventPublisher {
+    private final OutboxEventRepository outboxRepository;
+    private final CampaignEventFactory eventFactory;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventPublisher(
+            OutboxEventRepository outboxRepository,
+            CampaignEventFactory eventFactory,
+            ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.eventFactory = eventFactory;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publishCampaignCreated(Campaign campaign) {
+        outboxRepository.insert(toOutboxEvent("CAMPAIGN_CREATED", campaign));
+    }
+
+    @Override
+    public void publishCampaignUpdated(Campaign campaign) {
+        outboxRepository.insert(toOutboxEvent("CAMPAIGN_UPDATED", campaign));
+    }
+
+    @Override
+    public void publishCampaignsCompleted(List<Campaign> campaigns) {
+        if (campaigns.isEmpty()) {
+            return;
+        }
+        // One insertMany for the whole batch
+        outboxRepository.insert(campaigns.stream()
+                .map(campaign -> toOutboxEvent("CAMPAIGN_COMPLETED", campaign))
+                .toList());
+    }
+
+    private OutboxEvent toOutboxEvent(String eventType, Campaign campaign) {
+        Map<String, Object> event = eventFactory.createEvent(eventType, campaign);
+
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setEventId((String) event.get("event_id"));
+        outboxEvent.setAggregateId(campaign.getCampaignId());
+        outboxEvent.setEventType(eventType);
+        outboxEvent.setEvent(serialize(event));
+        outboxEvent.setCreatedAt(Instant.now());
+        outboxEvent.setPublished(false);
+        return outboxEvent;
+    }
+
+    private String serialize(Map<String, Object> event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            // Fail the surrounding transaction rather than commit a campaign without its event
+            throw new IllegalStateException("Failed to serialize event " + event.get("event_type"), e);
+        }
+    }
+}
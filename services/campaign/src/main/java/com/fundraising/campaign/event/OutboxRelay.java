@@ -0,0 +1,141 @@
+package com.fundraising.campaign.event;
+
+import com.fundraising.campaign.domain.OutboxEvent;
+import com.fundraising.campaign.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Forwards unpublished outbox rows to the platform stream. Each batch is one
+ * pipelined XADD round trip followed by one {@code updateMulti} marking the rows
+ * published.
+ *
+ * <p>Replicas take turns through a Redis lock, so only one relays at a time. Delivery is
+ * still at-least-once: a crash between the two steps, or a run outliving the lock TTL,
+ * re-sends a batch, so consumers de-duplicate on {@code event_id}. A failed batch stays
+ * unpublished and is retried on the next run.
+ */
+@Component
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+public class OutboxRelay {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String LOCK_KEY = "campaign:outbox:relay:lock";
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final OutboxEventRepository outboxRepository;
+    private final MongoTemplate mongoTemplate;
+    private final StreamBatchWriter streamWriter;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lockTtl;
+
+    private final Timer batchLatency;
+    private final Timer eventAge;
+    private final Counter relayed;
+    private final Counter failures;
+    private final Counter skippedLocked;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxRepository,
+            MongoTemplate mongoTemplate,
+            StreamBatchWriter streamWriter,
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${event.outbox.relay.batch-size:200}") int batchSize,
+            @Value("${event.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${event.outbox.relay.lock-ttl:30s}") Duration lockTtl) {
+        this.outboxRepository = outboxRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.streamWriter = streamWriter;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lockTtl = lockTtl;
+
+        this.batchLatency = Timer.builder("campaign.outbox.relay.batch.latency")
+                .description("Time to relay one outbox batch, XADD pipeline plus Mongo ack")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.eventAge = Timer.builder("campaign.outbox.relay.event.age")
+                .description("Time from outbox insert to relay")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.relayed = Counter.builder("campaign.outbox.relayed").register(meterRegistry);
+        this.failures = Counter.builder("campaign.outbox.relay.failures").register(meterRegistry);
+        this.skippedLocked = Counter.builder("campaign.outbox.relay.skipped")
+                .tag("reason", "locked")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${event.outbox.relay.interval-ms:500}")
+    public void relay() {
+        String owner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, lockTtl))) {
+            skippedLocked.increment();
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (relayBatch() < batchSize) {
+                    return;
+                }
+            }
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), owner);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxRepository.findByPublishedFalseOrderByCreatedAtAsc(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<String> ids = batch.stream().map(OutboxEvent::getEventId).toList();
+        long start = System.nanoTime();
+        try {
+            streamWriter.writeBatch(batch.stream().map(OutboxEvent::getEvent).toList());
+        } catch (Exception e) {
+            failures.increment();
+            logger.error("Failed to relay {} outbox events", batch.size(), e);
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(ids)),
+                new Update().set("published", true).set("publishedAt", now), OutboxEvent.class);
+
+        batchLatency.record(Duration.ofNanos(System.nanoTime() - start));
+        for (OutboxEvent event : batch) {
+            eventAge.record(Duration.between(event.getCreatedAt(), now));
+        }
+        relayed.increment(batch.size());
+        logger.debug("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+}
@@ -2,32 +2,55 @@ package com.fundraising.campaign.event;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fundraising.campaign.domain.Campaign;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @Component
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "false")
 public class RedisEventPublisher implements EventPublisher {
     private static final Logger logger = LoggerFactory.getLogger(RedisEventPublisher.class);
     
-    private final RedisTemplate<String, String> redisTemplate;
+    private final StreamBatchWriter streamWriter;
     private final ObjectMapper objectMapper;
-    private final String streamKey;
+    private final CampaignEventFactory eventFactory;
+    private final AsyncEventSender asyncSender;
 
     public RedisEventPublisher(
-            RedisTemplate<String, String> redisTemplate,
+            StreamBatchWriter streamWriter,
             ObjectMapper objectMapper,
-            @Value("${event.redis.stream-key}") String streamKey) {
-        this.redisTemplate = redisTemplate;
+            CampaignEventFactory eventFactory,
+            MeterRegistry meterRegistry,
+            @Value("${event.redis.publish-mode:sync}") String publishMode,
+            @Value("${event.redis.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${event.redis.async.batch-size:100}") int batchSize,
+            @Value("${event.redis.async.overflow-policy:BLOCK}") AsyncEventSender.OverflowPolicy overflowPolicy,
+            @Value("${event.redis.async.offer-timeout:50ms}") Duration offerTimeout,
+            @Value("${event.redis.async.max-attempts:3}") int maxAttempts,
+            @Value("${event.redis.async.retry-backoff:200ms}") Duration retryBackoff) {
+        this.streamWriter = streamWriter;
         this.objectMapper = objectMapper;
-        this.streamKey = streamKey;
+        this.eventFactory = eventFactory;
+        this.asyncSender = "async".equalsIgnoreCase(publishMode)
+                ? new AsyncEventSender(streamWriter, meterRegistry, queueCapacity, batchSize,
+                        overflowPolicy, offerTimeout, maxAttempts, retryBackoff)
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (asyncSender != null) {
+            asyncSender.shutdown(Duration.ofSeconds(5));
+        }
     }
 
     @Override
@@ -40,38 +63,38 @@ public class RedisEventPublisher implements EventPublisher {
         publishEvent("CAMPAIGN_UPDATED", campaign);
     }
 
+    @Override
+    public void publishCampaignsCompleted(List<Campaign> campaigns) {
+        if (asyncSender != null) {
+            campaigns.forEach(campaign -> publishEvent("CAMPAIGN_COMPLETED", campaign));
+            return;
+        }
+        try {
+            List<String> events = new ArrayList<>(campaigns.size());
+            for (Campaign campaign : campaigns) {
+                events.add(objectMapper.writeValueAsString(eventFactory.createEvent("CAMPAIGN_COMPLETED", campaign)));
+            }
+            streamWriter.writeBatch(events);
+            logger.info("Published {} CAMPAIGN_COMPLETED events", events.size());
+        } catch (Exception e) {
+            logger.error("Failed to publish {} CAMPAIGN_COMPLETED events", campaigns.size(), e);
+        }
+    }
+
     private void publishEvent(String eventType, Campaign campaign) {
         try {
-            Map<String, Object> event = createEvent(eventType, campaign);
+            Map<String, Object> event = eventFactory.createEvent(eventType, campaign);
             String eventJson = objectMapper.writeValueAsString(event);
-            
-            redisTemplate.opsForStream().add(streamKey, Map.of("event", eventJson));
+
+            if (asyncSender != null) {
+                asyncSender.enqueue(eventJson);
+                logger.debug("Queued event {} for campaign {}", eventType, campaign.getCampaignId());
+                return;
+            }
+            streamWriter.write(eventJson);
             logger.info("Published event {} for campaign {}", eventType, campaign.getCampaignId());
         } catch (Exception e) {
             logger.error("Failed to publish event {} for campaign {}", eventType, campaign.getCampaignId(), e);
         }
     }
-
-    private Map<String, Object> createEvent(String eventType, Campaign campaign) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("campaignId", campaign.getCampaignId());
-        payload.put("title", campaign.getTitle());
-        payload.put("goalAmountCents", campaign.getGoalAmountCents());
-        payload.put("currency", campaign.getCurrency());
-        payload.put("ownerUserId", campaign.getOwnerUserId());
-        payload.put("startDate", campaign.getStartDate());
-        payload.put("endDate", campaign.getEndDate());
-        payload.put("status", campaign.getStatus());
-        payload.put("metadata", campaign.getMetadata());
-
-        Map<String, Object> event = new HashMap<>();
-        event.put("event_id", UUID.randomUUID().toString());
-        event.put("event_type", eventType);
-        event.put("occurred_at", Instant.now().toString());
-        event.put("source_service", "campaign-service");
-        event.put("correlation_id", UUID.randomUUID().toString());
-        event.put("payload", payload);
-
-        return event;
-    }
 }
\ No newline at end of file
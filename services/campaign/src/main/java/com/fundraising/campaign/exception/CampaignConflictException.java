@@ -0,0 +1,18 @@
+package com.fundraising.campaign.exception;
+
+/**
+ * The campaign changed after the client read it; the client should re-read and retry.
+ */
+public class CampaignConflictException extends RuntimeException {
+    private final String campaignId;
+    private final Long currentVersion;
+
+    public CampaignConflictException(String campaignId, Long currentVersion) {
+        super("Campaign " + campaignId + " was modified concurrently (current version " + currentVersion + ")");
+        this.campaignId = campaignId;
+        this.currentVersion = currentVersion;
+    }
+
+    public String getCampaignId() { return campaignId; }
+    public Long getCurrentVersion() { return currentVersion; }
+}
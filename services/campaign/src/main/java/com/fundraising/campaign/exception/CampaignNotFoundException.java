@@ -0,0 +1,17 @@
+package com.fundraising.campaign.exception;
+
+/**
+ * No campaign exists for the requested id or slug. Unknown ids are a normal,
+ * high-volume outcome (stale links, scrapers), so the exception skips the stack
+ * trace and suppression bookkeeping that a real failure would need.
+ */
+public class CampaignNotFoundException extends RuntimeException {
+    private final String key;
+
+    public CampaignNotFoundException(String key) {
+        super("Campaign not found: " + key, null, false, false);
+        this.key = key;
+    }
+
+    public String getKey() { return key; }
+}
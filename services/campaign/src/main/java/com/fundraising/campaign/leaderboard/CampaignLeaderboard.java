@@ -0,0 +1,174 @@
+package com.fundraising.campaign.leaderboard;
+
+import com.fundraising.campaign.domain.Campaign;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Campaign rankings kept in Redis sorted sets and updated one donation at a time.
+ *
+ * <ul>
+ *   <li>All-time: {@code campaign:leaderboard:raised}, scored by collected cents.</li>
+ *   <li>Trending: one sorted set per time bucket. Reads merge the buckets in the trending
+ *       window with weights halving every half-life into a short-lived view key, so a
+ *       campaign's score decays as its donations age out.</li>
+ * </ul>
+ * Updates are O(log n) {@code ZINCRBY}s; reads are O(log n + k) range queries.
+ */
+@Component
+public class CampaignLeaderboard {
+    private static final Logger logger = LoggerFactory.getLogger(CampaignLeaderboard.class);
+
+    static final String RAISED_KEY = "campaign:leaderboard:raised";
+    static final String TRENDING_BUCKET_PREFIX = "campaign:trending:";
+    static final String TRENDING_VIEW_KEY = "campaign:trending:view";
+    private static final String SEEDED_KEY = "campaign:leaderboard:seeded";
+    private static final String SEED_LOCK_KEY = "campaign:leaderboard:seed-lock";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final Duration bucketSize;
+    private final int windowBuckets;
+    private final Duration halfLife;
+    private final Duration viewTtl;
+    private final Duration seedLockTtl;
+
+    public CampaignLeaderboard(
+            RedisTemplate<String, String> redisTemplate,
+            MongoTemplate mongoTemplate,
+            @Value("${campaign.leaderboard.trending.bucket-size:5m}") Duration bucketSize,
+            @Value("${campaign.leaderboard.trending.window:1h}") Duration window,
+            @Value("${campaign.leaderboard.trending.half-life:20m}") Duration halfLife,
+            @Value("${campaign.leaderboard.trending.view-ttl:10s}") Duration viewTtl,
+            @Value("${campaign.leaderboard.seed.lock-ttl:5m}") Duration seedLockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.mongoTemplate = mongoTemplate;
+        this.bucketSize = bucketSize;
+        this.windowBuckets = (int) Math.max(1, window.toMillis() / bucketSize.toMillis());
+        this.halfLife = halfLife;
+        this.viewTtl = viewTtl;
+        this.seedLockTtl = seedLockTtl;
+    }
+
+    public void recordDonation(String campaignId, long amountCents, Instant occurredAt) {
+        String bucketKey = bucketKey(bucketOf(occurredAt));
+        Duration bucketTtl = bucketSize.multipliedBy(windowBuckets + 1L);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().incrementScore(RAISED_KEY, campaignId, amountCents);
+                ops.opsForZSet().incrementScore(bucketKey, campaignId, amountCents);
+                ops.expire(bucketKey, bucketTtl);
+                return null;
+            }
+        });
+    }
+
+    /** Campaign ids with collected cents, highest first. */
+    public Map<String, Double> topRaised(int limit) {
+        return toMap(redisTemplate.opsForZSet().reverseRangeWithScores(RAISED_KEY, 0, limit - 1L));
+    }
+
+    /** Campaign ids with decayed trending scores, highest first. */
+    public Map<String, Double> trending(int limit) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(TRENDING_VIEW_KEY))) {
+            rebuildTrendingView();
+        }
+        return toMap(redisTemplate.opsForZSet().reverseRangeWithScores(TRENDING_VIEW_KEY, 0, limit - 1L));
+    }
+
+    private void rebuildTrendingView() {
+        long current = bucketOf(Instant.now());
+        List<String> keys = new ArrayList<>(windowBuckets);
+        double[] weights = new double[windowBuckets];
+        for (int age = 0; age < windowBuckets; age++) {
+            keys.add(bucketKey(current - age));
+            double ageMillis = (double) age * bucketSize.toMillis();
+            weights[age] = Math.pow(0.5, ageMillis / halfLife.toMillis());
+        }
+        // Concurrent rebuilds from several replicas produce the same view, so no lock is taken
+        redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), TRENDING_VIEW_KEY,
+                Aggregate.SUM, Weights.of(weights));
+        redisTemplate.expire(TRENDING_VIEW_KEY, viewTtl);
+    }
+
+    public boolean isSeeded() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_KEY));
+    }
+
+    /**
+     * Seeds the all-time leaderboard from {@code collectedAmountCents} the first time any
+     * replica starts against an empty Redis; later totals arrive through donation events.
+     * The seed writes absolute scores, so donation events must not be applied until it has
+     * finished (see {@link #isSeeded()}). The lock expires after {@code seed.lock-ttl}: if
+     * the seeding replica dies, another one redoes the whole seed, which is idempotent.
+     *
+     * @return whether the leaderboard is seeded now
+     */
+    public boolean seedIfNeeded() {
+        if (isSeeded()) {
+            return true;
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(SEED_LOCK_KEY, Instant.now().toString(), seedLockTtl))) {
+            return false;
+        }
+        Query query = Query.query(Criteria.where("collectedAmountCents").gt(0));
+        query.fields().include("campaignId").include("collectedAmountCents");
+        int[] seeded = {0};
+        try (var campaigns = mongoTemplate.stream(query, Campaign.class)) {
+            campaigns.forEach(campaign -> {
+                redisTemplate.opsForZSet().add(RAISED_KEY, campaign.getCampaignId(), campaign.getCollectedAmountCents());
+                seeded[0]++;
+            });
+        } catch (Exception e) {
+            logger.warn("Leaderboard seed failed after {} campaigns; retrying once the lock expires", seeded[0], e);
+            return false;
+        }
+        redisTemplate.opsForValue().set(SEEDED_KEY, Instant.now().toString());
+        logger.info("Seeded campaign leaderboard with {} campaigns", seeded[0]);
+        return true;
+    }
+
+    private long bucketOf(Instant instant) {
+        return instant.toEpochMilli() / bucketSize.toMillis();
+    }
+
+    private static String bucketKey(long bucket) {
+        return TRENDING_BUCKET_PREFIX + bucket;
+    }
+
+    private static Map<String, Double> toMap(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Double> ranked = new LinkedHashMap<>();
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            ranked.put(tuple.getValue(), tuple.getScore());
+        }
+        return ranked;
+    }
+}
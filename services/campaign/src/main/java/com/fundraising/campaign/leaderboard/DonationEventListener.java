@@ -0,0 +1,215 @@
+package com.fundraising.campaign.leaderboard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.data.redis.stream.Subscription;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feeds {@link CampaignLeaderboard} from donation events on the platform stream. Replicas
+ * share one consumer group, so every donation is counted once however many instances run.
+ * No replica reads the group until the leaderboard has been seeded; events published in
+ * the meantime wait in the group.
+ *
+ * <p>Nothing publishes these events yet (see the README), so in practice the leaderboard
+ * holds only its seed.
+ */
+@Component
+@ConditionalOnProperty(name = "campaign.leaderboard.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+public class DonationEventListener {
+    private static final Logger logger = LoggerFactory.getLogger(DonationEventListener.class);
+    private static final String CONSUMER_GROUP = "campaign-leaderboard";
+    // PLEDGE_PAYMENT_SUCCESS is not on the stream yet: pledge pushes it to a Redis list,
+    // without campaignId or amount. It is matched here for when that changes.
+    private static final Set<String> DONATION_EVENTS =
+            Set.of("DIRECT_PAYMENT_SUCCESS", "PLEDGE_PAYMENT_SUCCESS", "DONATION_COMPLETED");
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CampaignLeaderboard leaderboard;
+    private final String streamKey;
+
+    private final ReentrantLock startLock = new ReentrantLock();
+    private volatile boolean ready;
+    private volatile StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+    private volatile Subscription subscription;
+
+    public DonationEventListener(
+            RedisConnectionFactory connectionFactory,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            CampaignLeaderboard leaderboard,
+            @Value("${event.redis.stream-key}") String streamKey) {
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.leaderboard = leaderboard;
+        this.streamKey = streamKey;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.latest(), CONSUMER_GROUP);
+        } catch (Exception e) {
+            // BUSYGROUP: another replica created it already
+            logger.debug("Consumer group {} already exists", CONSUMER_GROUP);
+        }
+        ready = true;
+        startWhenSeeded();
+    }
+
+    /**
+     * Retries until the seed exists, e.g. after the seeding replica died mid-stream, and
+     * re-subscribes if the subscription has ended.
+     */
+    @Scheduled(fixedDelayString = "${campaign.leaderboard.seed.retry-interval-ms:30000}")
+    public void startWhenSeeded() {
+        if (!ready || isSubscribed() || !startLock.tryLock()) {
+            return;
+        }
+        try {
+            if (isSubscribed()) {
+                return;
+            }
+            if (container != null) {
+                logger.warn("Donation event subscription ended, subscribing again");
+                subscribe();
+                return;
+            }
+            if (!leaderboard.seedIfNeeded()) {
+                logger.info("Waiting for the campaign leaderboard seed before consuming donation events");
+                return;
+            }
+            startContainer();
+        } catch (Exception e) {
+            logger.warn("Could not start the donation event consumer", e);
+        } finally {
+            startLock.unlock();
+        }
+    }
+
+    private void startContainer() {
+        var options = StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                .pollTimeout(Duration.ofSeconds(1))
+                .batchSize(100)
+                .build();
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> listenerContainer =
+                StreamMessageListenerContainer.create(connectionFactory, options);
+        listenerContainer.start();
+        container = listenerContainer;
+        subscribe();
+    }
+
+    // A failed poll (e.g. Redis restarting) is logged and polling continues; by default the
+    // container would cancel the subscription on the first error.
+    private void subscribe() {
+        StreamReadRequest<String> request = StreamReadRequest
+                .builder(StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+                .consumer(Consumer.from(CONSUMER_GROUP, "campaign-" + UUID.randomUUID().toString().substring(0, 8)))
+                .autoAcknowledge(false)
+                .cancelOnError(e -> false)
+                .errorHandler(e -> logger.warn("Failed to read donation events from {}", streamKey, e))
+                .build();
+        subscription = container.register(request, this::onRecord);
+    }
+
+    private boolean isSubscribed() {
+        Subscription current = subscription;
+        return current != null && current.isActive();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    // Acks only once the event is counted or known to be irrelevant. A failed ZINCRBY leaves
+    // the entry in the group's pending list (XPENDING) instead of dropping the donation.
+    private void onRecord(MapRecord<String, String, String> record) {
+        JsonNode event;
+        try {
+            String eventJson = record.getValue().get("event");
+            event = eventJson == null ? null : objectMapper.readTree(eventJson);
+        } catch (Exception e) {
+            logger.warn("Skipping unreadable event {}", record.getId(), e);
+            acknowledge(record);
+            return;
+        }
+        try {
+            if (event != null) {
+                handle(event);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to record donation event {}, leaving it pending", record.getId(), e);
+            return;
+        }
+        acknowledge(record);
+    }
+
+    private void acknowledge(MapRecord<String, String, String> record) {
+        redisTemplate.opsForStream().acknowledge(streamKey, CONSUMER_GROUP, record.getId());
+    }
+
+    // Accepts both the campaign-service envelope (event_type/payload) and the documented one (eventType/data)
+    private void handle(JsonNode event) {
+        String eventType = event.path("event_type").asText(event.path("eventType").asText(null));
+        if (eventType == null || !DONATION_EVENTS.contains(eventType)) {
+            return;
+        }
+        JsonNode body = event.has("payload") ? event.get("payload") : event.path("data");
+        String campaignId = body.path("campaignId").asText(null);
+        long amountCents = amountCents(body);
+        if (campaignId == null || amountCents <= 0) {
+            return;
+        }
+        leaderboard.recordDonation(campaignId, amountCents, occurredAt(event));
+    }
+
+    private static long amountCents(JsonNode body) {
+        if (body.hasNonNull("amountCents")) {
+            return body.get("amountCents").asLong();
+        }
+        if (body.hasNonNull("amount")) {
+            return new BigDecimal(body.get("amount").asText()).movePointRight(2).longValue();
+        }
+        return 0;
+    }
+
+    private static Instant occurredAt(JsonNode event) {
+        String timestamp = event.path("occurred_at").asText(event.path("timestamp").asText(null));
+        try {
+            return timestamp == null ? Instant.now() : Instant.parse(timestamp);
+        } catch (Exception e) {
+            return Instant.now();
+        }
+    }
+}
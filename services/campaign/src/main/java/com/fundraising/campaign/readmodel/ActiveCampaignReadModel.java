@@ -0,0 +1,382 @@
+package com.fundraising.campaign.readmodel;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.domain.CampaignStatus;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of ACTIVE campaigns, loaded at startup and kept current by tailing
+ * a change stream on {@code campaigns}. Only ACTIVE campaigns are held, so a miss
+ * here means "ask Mongo", never "does not exist".
+ *
+ * <p>All mutations happen on the single {@code campaign-read-model} thread; readers
+ * never lock. Change streams need a replica set.
+ */
+@Component
+public class ActiveCampaignReadModel {
+    private static final Logger logger = LoggerFactory.getLogger(ActiveCampaignReadModel.class);
+    private static final String COLLECTION = "campaigns";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final Sort CREATED_AT_DESC = Sort.by("createdAt").descending();
+    private static final Comparator<OrderKey> NEWEST_FIRST = Comparator
+            .comparing(OrderKey::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(OrderKey::campaignId);
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+
+    private final Map<String, Campaign> byCampaignId = new ConcurrentHashMap<>();
+    private final Map<String, String> campaignIdByDocumentId = new ConcurrentHashMap<>();
+    private final Map<String, String> campaignIdBySlug = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> campaignIdsByOwner = new ConcurrentHashMap<>();
+    private final NavigableSet<OrderKey> newestFirst = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final AtomicLong lastEventLagMillis = new AtomicLong();
+    private final AtomicLong lastEventAppliedAt = new AtomicLong();
+    private final Timer warmupTimer;
+
+    private volatile boolean ready;
+    private volatile boolean running;
+    private volatile BsonDocument resumeToken;
+    private Thread tailer;
+
+    public ActiveCampaignReadModel(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${campaign.read-model.enabled:false}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+
+        this.warmupTimer = Timer.builder("campaign.read_model.warmup")
+                .description("Time to load all ACTIVE campaigns into the read model")
+                .register(meterRegistry);
+        Gauge.builder("campaign.read_model.size", byCampaignId, Map::size)
+                .description("Campaigns held in the read model")
+                .register(meterRegistry);
+        Gauge.builder("campaign.read_model.memory.estimated", estimatedBytes, AtomicLong::get)
+                .description("Rough heap footprint of the read model")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("campaign.read_model.replication.lag", lastEventLagMillis, AtomicLong::get)
+                .description("Delay between a campaign write and its application to the read model")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("campaign.read_model.last_event.age", lastEventAppliedAt,
+                        at -> at.get() == 0 ? 0 : System.currentTimeMillis() - at.get())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("campaign.read_model.ready", this, model -> model.ready ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        tailer = new Thread(this::run, "campaign-read-model");
+        tailer.setDaemon(true);
+        tailer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        ready = false;
+        if (tailer != null) {
+            tailer.interrupt();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<Campaign> findByCampaignId(String campaignId) {
+        return Optional.ofNullable(byCampaignId.get(campaignId));
+    }
+
+    public Optional<Campaign> findBySlug(String slug) {
+        String campaignId = campaignIdBySlug.get(slug);
+        return campaignId == null ? Optional.empty() : findByCampaignId(campaignId);
+    }
+
+    /**
+     * Whether a listing request can be answered from the read model: it must ask
+     * for ACTIVE campaigns in the default newest-first order.
+     */
+    public boolean canServe(CampaignStatus status, Pageable pageable) {
+        return ready && status == CampaignStatus.ACTIVE
+                && (pageable.getSort().isUnsorted() || pageable.getSort().equals(CREATED_AT_DESC));
+    }
+
+    public Page<Campaign> findActive(Pageable pageable) {
+        return page(newestFirst.iterator(), byCampaignId.size(), pageable);
+    }
+
+    public Page<Campaign> findActiveByOwner(String ownerUserId, Pageable pageable) {
+        Set<String> ids = campaignIdsByOwner.getOrDefault(ownerUserId, Collections.emptySet());
+        List<OrderKey> keys = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Campaign campaign = byCampaignId.get(id);
+            if (campaign != null) {
+                keys.add(new OrderKey(campaign.getCreatedAt(), id));
+            }
+        }
+        keys.sort(NEWEST_FIRST);
+        return page(keys.iterator(), keys.size(), pageable);
+    }
+
+    private Page<Campaign> page(Iterator<OrderKey> keys, long total, Pageable pageable) {
+        List<Campaign> content = new ArrayList<>(pageable.getPageSize());
+        long skip = pageable.getOffset();
+        while (keys.hasNext() && content.size() < pageable.getPageSize()) {
+            Campaign campaign = byCampaignId.get(keys.next().campaignId());
+            if (campaign == null) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            content.add(campaign);
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                MongoCollection<Document> collection = mongoTemplate.getCollection(COLLECTION);
+                // Open the stream before the snapshot so no write between the two is missed
+                try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = openStream(collection)) {
+                    if (!ready) {
+                        warmUp();
+                    }
+                    while (running) {
+                        ChangeStreamDocument<Document> change = cursor.tryNext();
+                        if (change != null) {
+                            apply(change);
+                        }
+                    }
+                }
+            } catch (MongoCommandException e) {
+                if (!running) {
+                    return;
+                }
+                if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    // The oplog rolled past our resume token; only a full reload can catch up
+                    logger.warn("Campaign change stream history lost, reloading read model");
+                    resumeToken = null;
+                    ready = false;
+                } else {
+                    logger.warn("Campaign change stream failed, resuming", e);
+                    sleepQuietly(Duration.ofSeconds(1));
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Campaign change stream failed, resuming", e);
+                sleepQuietly(Duration.ofSeconds(1));
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> openStream(MongoCollection<Document> collection) {
+        var stream = collection.watch()
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        clear();
+        Query query = Query.query(Criteria.where("status").is(CampaignStatus.ACTIVE));
+        try (var campaigns = mongoTemplate.stream(query, Campaign.class)) {
+            campaigns.forEach(this::put);
+        }
+        long elapsed = System.nanoTime() - start;
+        warmupTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        ready = true;
+        logger.info("Campaign read model warmed up with {} campaigns in {}ms",
+                byCampaignId.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private void apply(ChangeStreamDocument<Document> change) {
+        resumeToken = change.getResumeToken();
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE -> {
+                Document document = change.getFullDocument();
+                if (document != null) {
+                    upsert(mongoTemplate.getConverter().read(Campaign.class, document));
+                }
+            }
+            case DELETE -> {
+                String campaignId = campaignIdByDocumentId.get(documentId(change.getDocumentKey()));
+                if (campaignId != null) {
+                    remove(campaignId);
+                }
+            }
+            case DROP, RENAME, INVALIDATE -> {
+                // The stream is dead after these; rebuild from a fresh snapshot
+                resumeToken = null;
+                ready = false;
+                throw new IllegalStateException("Change stream invalidated by " + change.getOperationType());
+            }
+            default -> { }
+        }
+
+        long now = System.currentTimeMillis();
+        lastEventAppliedAt.set(now);
+        if (change.getClusterTime() != null) {
+            lastEventLagMillis.set(Math.max(0, now - change.getClusterTime().getTime() * 1000L));
+        }
+    }
+
+    private void upsert(Campaign campaign) {
+        if (campaign.getStatus() != CampaignStatus.ACTIVE) {
+            remove(campaign.getCampaignId());
+            return;
+        }
+        Campaign existing = byCampaignId.get(campaign.getCampaignId());
+        if (existing != null && existing.getUpdatedAt() != null && campaign.getUpdatedAt() != null
+                && campaign.getUpdatedAt().isBefore(existing.getUpdatedAt())) {
+            // Looked-up document is older than what the snapshot already holds
+            return;
+        }
+        remove(campaign.getCampaignId());
+        put(campaign);
+    }
+
+    private void put(Campaign campaign) {
+        String campaignId = campaign.getCampaignId();
+        byCampaignId.put(campaignId, campaign);
+        if (campaign.getId() != null) {
+            campaignIdByDocumentId.put(campaign.getId(), campaignId);
+        }
+        if (campaign.getSlug() != null) {
+            campaignIdBySlug.put(campaign.getSlug(), campaignId);
+        }
+        if (campaign.getOwnerUserId() != null) {
+            campaignIdsByOwner.computeIfAbsent(campaign.getOwnerUserId(), owner -> ConcurrentHashMap.newKeySet())
+                    .add(campaignId);
+        }
+        newestFirst.add(new OrderKey(campaign.getCreatedAt(), campaignId));
+        estimatedBytes.addAndGet(estimateBytes(campaign));
+    }
+
+    private void remove(String campaignId) {
+        Campaign campaign = byCampaignId.remove(campaignId);
+        if (campaign == null) {
+            return;
+        }
+        if (campaign.getId() != null) {
+            campaignIdByDocumentId.remove(campaign.getId());
+        }
+        if (campaign.getSlug() != null) {
+            campaignIdBySlug.remove(campaign.getSlug(), campaignId);
+        }
+        if (campaign.getOwnerUserId() != null) {
+            Set<String> owned = campaignIdsByOwner.get(campaign.getOwnerUserId());
+            if (owned != null) {
+                owned.remove(campaignId);
+            }
+        }
+        newestFirst.remove(new OrderKey(campaign.getCreatedAt(), campaignId));
+        estimatedBytes.addAndGet(-estimateBytes(campaign));
+    }
+
+    private void clear() {
+        byCampaignId.clear();
+        campaignIdByDocumentId.clear();
+        campaignIdBySlug.clear();
+        campaignIdsByOwner.clear();
+        newestFirst.clear();
+        estimatedBytes.set(0);
+    }
+
+    private static String documentId(BsonDocument documentKey) {
+        BsonValue id = documentKey == null ? null : documentKey.get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.toString();
+    }
+
+    // Object headers, index entries and boxed fields, plus two bytes per char of text
+    private static long estimateBytes(Campaign campaign) {
+        long bytes = 400;
+        bytes += chars(campaign.getCampaignId()) + chars(campaign.getTitle()) + chars(campaign.getSlug())
+                + chars(campaign.getDescription()) + chars(campaign.getCurrency()) + chars(campaign.getOwnerUserId());
+        if (campaign.getTags() != null) {
+            for (String tag : campaign.getTags()) {
+                bytes += 16 + chars(tag);
+            }
+        }
+        if (campaign.getMetadata() != null) {
+            bytes += 64L * campaign.getMetadata().size() + chars(campaign.getMetadata().toString());
+        }
+        return bytes;
+    }
+
+    private static long chars(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record OrderKey(Instant createdAt, String campaignId) {}
+}
@@ -7,13 +7,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface CampaignRepository extends MongoRepository<Campaign, String> {
+public interface CampaignRepository extends MongoRepository<Campaign, String>, CampaignRepositoryCustom {
     Optional<Campaign> findByCampaignId(String campaignId);
+
+    // Only what an ETag needs, so conditional GETs skip reading the whole document
+    @Query(value = "{ 'campaignId': ?0 }", fields = "{ 'version': 1, 'updatedAt': 1, '_id': 0 }")
+    Optional<Campaign> findVersionByCampaignId(String campaignId);
+
+    List<Campaign> findByCampaignIdIn(Collection<String> campaignIds);
     Optional<Campaign> findBySlug(String slug);
     Page<Campaign> findByStatus(CampaignStatus status, Pageable pageable);
     Page<Campaign> findByOwnerUserId(String ownerUserId, Pageable pageable);
+    Page<Campaign> findByOwnerUserIdAndStatus(String ownerUserId, CampaignStatus status, Pageable pageable);
     
     @Query("{ $and: [ " +
            "{ $or: [ { 'title': { $regex: ?0, $options: 'i' } }, { 'description': { $regex: ?0, $options: 'i' } } ] }, " +
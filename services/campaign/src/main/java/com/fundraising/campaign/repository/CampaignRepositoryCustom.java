@@ -0,0 +1,17 @@
+package com.fundraising.campaign.repository;
+
+import com.fundraising.campaign.domain.Campaign;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface CampaignRepositoryCustom {
+
+    /**
+     * Applies {@code changes} as a single {@code $set} (plus {@code updatedAt} and a
+     * version bump) to the campaign matching id, owner and, when given, version.
+     * Returns the updated document, or empty when no document matched the filter.
+     */
+    Optional<Campaign> updateIfMatches(String campaignId, String ownerUserId, Long expectedVersion,
+                                       boolean rejectCompleted, Map<String, Object> changes);
+}
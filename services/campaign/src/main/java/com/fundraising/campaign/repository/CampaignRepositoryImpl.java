@@ -0,0 +1,41 @@
+package com.fundraising.campaign.repository;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.domain.CampaignStatus;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+public class CampaignRepositoryImpl implements CampaignRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public CampaignRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<Campaign> updateIfMatches(String campaignId, String ownerUserId, Long expectedVersion,
+                                              boolean rejectCompleted, Map<String, Object> changes) {
+        Criteria criteria = Criteria.where("campaignId").is(campaignId).and("ownerUserId").is(ownerUserId);
+        if (expectedVersion != null) {
+            criteria.and("version").is(expectedVersion);
+        }
+        if (rejectCompleted) {
+            criteria.and("status").ne(CampaignStatus.COMPLETED);
+        }
+
+        Update update = new Update();
+        changes.forEach(update::set);
+        update.set("updatedAt", Instant.now());
+        update.inc("version", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                Query.query(criteria), update, FindAndModifyOptions.options().returnNew(true), Campaign.class));
+    }
+}
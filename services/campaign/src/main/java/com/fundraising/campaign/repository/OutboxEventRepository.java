@@ -0,0 +1,11 @@
+package com.fundraising.campaign.repository;
+
+import com.fundraising.campaign.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String> {
+    List<OutboxEvent> findByPublishedFalseOrderByCreatedAtAsc(Pageable pageable);
+}
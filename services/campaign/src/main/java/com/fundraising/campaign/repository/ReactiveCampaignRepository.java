@@ -0,0 +1,22 @@
+package com.fundraising.campaign.repository;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.domain.CampaignStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCampaignRepository extends ReactiveMongoRepository<Campaign, String> {
+    Mono<Campaign> findByCampaignId(String campaignId);
+    Flux<Campaign> findAllBy(Pageable pageable);
+    Flux<Campaign> findByStatus(CampaignStatus status, Pageable pageable);
+    Flux<Campaign> findByOwnerUserId(String ownerUserId, Pageable pageable);
+    Flux<Campaign> findByOwnerUserIdAndStatus(String ownerUserId, CampaignStatus status, Pageable pageable);
+
+    @Query("{ $and: [ " +
+           "{ $or: [ { 'title': { $regex: ?0, $options: 'i' } }, { 'description': { $regex: ?0, $options: 'i' } } ] }, " +
+           "{ 'status': ?1 } ] }")
+    Flux<Campaign> findByTextSearchAndStatus(String searchText, CampaignStatus status, Pageable pageable);
+}
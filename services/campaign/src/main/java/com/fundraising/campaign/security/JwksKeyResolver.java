@@ -0,0 +1,130 @@
+package com.fundraising.campaign.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves RS256 verification keys by {@code kid} from the auth service's JWKS. Keys are
+ * cached and refreshed every {@code auth.jwt.jwks-refresh}, or early when a token names an
+ * unknown kid (a rotation). Early refreshes are rate-limited so forged kids cannot turn
+ * every request into a JWKS fetch.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.jwt.enabled", havingValue = "true")
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyResolver.class);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final RestClient restClient;
+    private final String jwksUri;
+    private final long refreshIntervalNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long fetchedAtNanos;
+    private volatile boolean fetched;
+
+    public JwksKeyResolver(
+            @Value("${auth.jwt.jwks-uri}") String jwksUri,
+            @Value("${auth.jwt.jwks-refresh:5m}") Duration refreshInterval,
+            @Value("${auth.jwt.jwks-connect-timeout:2s}") Duration connectTimeout,
+            @Value("${auth.jwt.jwks-read-timeout:2s}") Duration readTimeout) {
+        // Unknown-kid refreshes run on request threads under refreshLock, so a slow JWKS
+        // endpoint must not hold them for longer than these timeouts
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.jwksUri = jwksUri;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        if (!"RS256".equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Only RS256 tokens can be verified locally");
+        }
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new UnsupportedJwtException("Token has no key id");
+        }
+        if (!fetched || System.nanoTime() - fetchedAtNanos > refreshIntervalNanos) {
+            refresh(false);
+        }
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            refresh(true);
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key " + kid);
+        }
+        return key;
+    }
+
+    private void refresh(boolean waitForLock) {
+        // Only one thread fetches; the others keep using the current keys unless they have none
+        if (waitForLock || keys.isEmpty()) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (fetched && System.nanoTime() - fetchedAtNanos < MIN_REFRESH_INTERVAL.toNanos()) {
+                return;
+            }
+            try {
+                Map<String, Object> jwks = restClient.get()
+                        .uri(jwksUri)
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+                keys = parse(jwks);
+                logger.info("Loaded {} JWT verification keys from {}", keys.size(), jwksUri);
+            } catch (Exception e) {
+                logger.warn("Failed to refresh JWKS from {}, keeping {} cached keys", jwksUri, keys.size(), e);
+            }
+            fetchedAtNanos = System.nanoTime();
+            fetched = true;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, PublicKey> parse(Map<String, Object> jwks) throws Exception {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        for (Map<String, Object> jwk : (List<Map<String, Object>>) jwks.getOrDefault("keys", List.of())) {
+            if (!"RSA".equals(jwk.get("kty"))) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, decoder.decode((String) jwk.get("n")));
+            BigInteger exponent = new BigInteger(1, decoder.decode((String) jwk.get("e")));
+            parsed.put((String) jwk.get("kid"), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return Map.copyOf(parsed);
+    }
+}
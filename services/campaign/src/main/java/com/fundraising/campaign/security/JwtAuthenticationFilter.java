@@ -0,0 +1,109 @@
+package com.fundraising.campaign.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies Bearer tokens locally against the auth service's published keys, so
+ * authenticated requests need no call to {@code /api/auth/verify}. The verified subject
+ * replaces any client-supplied {@code X-User-Id}; requests without a token have the
+ * header stripped, so it can no longer be spoofed.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.jwt.enabled", havingValue = "true")
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    static final String USER_ID_HEADER = "X-User-Id";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtParser parser;
+    private final ObjectMapper objectMapper;
+
+    public JwtAuthenticationFilter(JwksKeyResolver keyResolver, ObjectMapper objectMapper) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyResolver)
+                .build();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            chain.doFilter(new VerifiedUserRequest(request, null), response);
+            return;
+        }
+        String userId;
+        try {
+            userId = parser.parseClaimsJws(authorization.substring(BEARER_PREFIX.length())).getBody().getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            writeUnauthorized(response);
+            return;
+        }
+        chain.doFilter(new VerifiedUserRequest(request, userId), response);
+    }
+
+    private void writeUnauthorized(HttpServletResponse response) throws IOException {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("code", "UNAUTHORIZED");
+        error.put("message", "Invalid or expired token");
+        error.put("timestamp", Instant.now().toString());
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /** Exposes only the verified user id as {@code X-User-Id}. */
+    private static final class VerifiedUserRequest extends HttpServletRequestWrapper {
+        private final String userId;
+
+        VerifiedUserRequest(HttpServletRequest request, String userId) {
+            super(request);
+            this.userId = userId;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return USER_ID_HEADER.equalsIgnoreCase(name) ? userId : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (USER_ID_HEADER.equalsIgnoreCase(name)) {
+                return userId == null ? Collections.emptyEnumeration() : Collections.enumeration(List.of(userId));
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames());
+            names.removeIf(USER_ID_HEADER::equalsIgnoreCase);
+            if (userId != null) {
+                names.add(USER_ID_HEADER);
+            }
+            return Collections.enumeration(names);
+        }
+    }
+}
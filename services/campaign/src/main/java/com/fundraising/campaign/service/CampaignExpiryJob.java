@@ -0,0 +1,163 @@
+package com.fundraising.campaign.service;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.domain.CampaignStatus;
+import com.fundraising.campaign.event.EventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Closes ACTIVE campaigns whose {@code endDate} has passed. Each run walks the
+ * {@code (status, endDate)} index in chunks, flips a chunk to COMPLETED with one
+ * {@code updateMulti} and emits the chunk's events in the same transaction.
+ *
+ * <p>Replicas coordinate through a Redis lock so only one runs at a time. The update
+ * itself is also filtered on {@code status: ACTIVE}, so an overlapping run after a lock
+ * expiry completes nothing twice.
+ */
+@Component
+@ConditionalOnProperty(name = "campaign.expiry.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+public class CampaignExpiryJob {
+    private static final Logger logger = LoggerFactory.getLogger(CampaignExpiryJob.class);
+    private static final String LOCK_KEY = "campaign:expiry:lock";
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EventPublisher eventPublisher;
+    private final TransactionOperations transactions;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration lockTtl;
+
+    private final Timer runTimer;
+    private final Counter completed;
+    private final Counter skippedLocked;
+    private final Counter failures;
+
+    public CampaignExpiryJob(
+            MongoTemplate mongoTemplate,
+            RedisTemplate<String, String> redisTemplate,
+            EventPublisher eventPublisher,
+            TransactionOperations transactions,
+            MeterRegistry meterRegistry,
+            @Value("${campaign.expiry.chunk-size:500}") int chunkSize,
+            @Value("${campaign.expiry.max-chunks-per-run:20}") int maxChunksPerRun,
+            @Value("${campaign.expiry.lock-ttl:5m}") Duration lockTtl) {
+        this.mongoTemplate = mongoTemplate;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactions = transactions;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.lockTtl = lockTtl;
+
+        this.runTimer = Timer.builder("campaign.expiry.run")
+                .description("Duration of one expiry run")
+                .register(meterRegistry);
+        this.completed = Counter.builder("campaign.expiry.completed")
+                .description("Campaigns moved to COMPLETED because their end date passed")
+                .register(meterRegistry);
+        this.skippedLocked = Counter.builder("campaign.expiry.skipped")
+                .tag("reason", "locked")
+                .register(meterRegistry);
+        this.failures = Counter.builder("campaign.expiry.failures").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${campaign.expiry.interval-ms:60000}")
+    public void expireCampaigns() {
+        String owner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, lockTtl))) {
+            skippedLocked.increment();
+            return;
+        }
+        try {
+            runTimer.record(this::runChunks);
+        } catch (Exception e) {
+            failures.increment();
+            logger.error("Campaign expiry run failed", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), owner);
+        }
+    }
+
+    private void runChunks() {
+        Instant now = Instant.now();
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int expired = expireChunk(now);
+            total += expired;
+            if (expired < chunkSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Completed {} campaigns past their end date", total);
+        }
+    }
+
+    private int expireChunk(Instant now) {
+        Query candidates = Query.query(Criteria.where("status").is(CampaignStatus.ACTIVE).and("endDate").lte(now))
+                .with(Sort.by("endDate"))
+                .limit(chunkSize);
+        candidates.fields().exclude("description");
+        List<Campaign> chunk = mongoTemplate.find(candidates, Campaign.class);
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<String> ids = chunk.stream().map(Campaign::getCampaignId).toList();
+        List<Campaign> expired = transactions.execute(status -> {
+            long modified = mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("campaignId").in(ids).and("status").is(CampaignStatus.ACTIVE)),
+                    new Update().set("status", CampaignStatus.COMPLETED).set("updatedAt", now).inc("version", 1),
+                    Campaign.class).getModifiedCount();
+
+            // An owner may have paused or cancelled one in between; only announce what we changed
+            List<Campaign> changed = modified == chunk.size() ? chunk : reload(ids, now);
+            for (Campaign campaign : changed) {
+                campaign.setStatus(CampaignStatus.COMPLETED);
+                campaign.setUpdatedAt(now);
+            }
+            eventPublisher.publishCampaignsCompleted(changed);
+            return changed;
+        });
+
+        completed.increment(expired.size());
+        // A short chunk means the scan is exhausted, even if some candidates were skipped
+        return chunk.size();
+    }
+
+    private List<Campaign> reload(List<String> ids, Instant now) {
+        Query query = Query.query(Criteria.where("campaignId").in(ids)
+                .and("status").is(CampaignStatus.COMPLETED)
+                .and("updatedAt").is(now));
+        query.fields().exclude("description");
+        return mongoTemplate.find(query, Campaign.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.fundraising.campaign.service;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.domain.CampaignStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Streams campaigns straight off a Mongo cursor in {@code (updatedAt, campaignId)} order,
+ * which makes the position of any exported campaign a stable resume token for the next
+ * incremental export.
+ */
+@Service
+public class CampaignExportService {
+    private static final int CURSOR_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    public CampaignExportService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Calls {@code sink} once per matching campaign and returns the resume token of the
+     * last one, or {@code resumeAfter} unchanged if nothing matched.
+     */
+    public String export(CampaignStatus status, String ownerId, Instant updatedFrom, Instant updatedTo,
+                         String resumeAfter, Consumer<Campaign> sink) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Order.asc("updatedAt"), Sort.Order.asc("campaignId")))
+                .cursorBatchSize(CURSOR_BATCH_SIZE);
+
+        List<Criteria> criteria = new ArrayList<>();
+        if (status != null) {
+            criteria.add(Criteria.where("status").is(status));
+        }
+        if (ownerId != null) {
+            criteria.add(Criteria.where("ownerUserId").is(ownerId));
+        }
+        if (updatedFrom != null || updatedTo != null) {
+            Criteria range = Criteria.where("updatedAt");
+            if (updatedFrom != null) range.gte(updatedFrom);
+            if (updatedTo != null) range.lt(updatedTo);
+            criteria.add(range);
+        }
+        if (resumeAfter != null) {
+            ResumePosition position = decode(resumeAfter);
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("updatedAt").gt(position.updatedAt()),
+                    Criteria.where("updatedAt").is(position.updatedAt()).and("campaignId").gt(position.campaignId())));
+        }
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria));
+        }
+
+        String lastToken = resumeAfter;
+        try (Stream<Campaign> campaigns = mongoTemplate.stream(query, Campaign.class)) {
+            var iterator = campaigns.iterator();
+            while (iterator.hasNext()) {
+                Campaign campaign = iterator.next();
+                sink.accept(campaign);
+                if (campaign.getUpdatedAt() != null) {
+                    lastToken = encode(campaign.getUpdatedAt(), campaign.getCampaignId());
+                }
+            }
+        }
+        return lastToken;
+    }
+
+    /**
+     * Rejects a malformed token before the response starts streaming.
+     */
+    public void validateResumeToken(String token) {
+        decode(token);
+    }
+
+    static String encode(Instant updatedAt, String campaignId) {
+        String raw = updatedAt.toEpochMilli() + ":" + campaignId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ResumePosition decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new ResumePosition(Instant.ofEpochMilli(Long.parseLong(raw.substring(0, separator))),
+                    raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid resume token");
+        }
+    }
+
+    record ResumePosition(Instant updatedAt, String campaignId) {}
+}
@@ -5,29 +5,65 @@ import com.fundraising.campaign.domain.CampaignStatus;
 import com.fundraising.campaign.dto.CreateCampaignRequest;
 import com.fundraising.campaign.dto.UpdateCampaignRequest;
 import com.fundraising.campaign.event.EventPublisher;
+import com.fundraising.campaign.exception.CampaignConflictException;
+import com.fundraising.campaign.exception.CampaignNotFoundException;
+import com.fundraising.campaign.readmodel.ActiveCampaignReadModel;
 import com.fundraising.campaign.repository.CampaignRepository;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoWriteException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 public class CampaignService {
+    // Numbered suffixes tried for a taken slug before falling back to a campaignId fragment
+    private static final int NUMBERED_SLUG_ATTEMPTS = 5;
+    // Spring Data names the @Indexed(unique = true) index after the field
+    private static final String SLUG_INDEX = "slug";
+    private static final Pattern DUPLICATE_KEY_INDEX = Pattern.compile("index: (\\S+) dup key");
+
     private final CampaignRepository campaignRepository;
     private final EventPublisher eventPublisher;
+    private final TransactionOperations transactions;
+    private final ActiveCampaignReadModel readModel;
+    private final CampaignSlugCache slugCache;
+    private final MissingCampaignCache missingCampaigns;
+    private final SingleFlight<String, Optional<Campaign>> campaignLoads;
 
-    public CampaignService(CampaignRepository campaignRepository, EventPublisher eventPublisher) {
+    public CampaignService(CampaignRepository campaignRepository, EventPublisher eventPublisher,
+                           TransactionOperations transactions, ActiveCampaignReadModel readModel,
+                           CampaignSlugCache slugCache, MissingCampaignCache missingCampaigns,
+                           MeterRegistry meterRegistry) {
         this.campaignRepository = campaignRepository;
         this.eventPublisher = eventPublisher;
+        this.transactions = transactions;
+        this.readModel = readModel;
+        this.slugCache = slugCache;
+        this.missingCampaigns = missingCampaigns;
+        this.campaignLoads = new SingleFlight<>(meterRegistry, "campaign.lookup.coalesced");
     }
 
     public Campaign createCampaign(CreateCampaignRequest request, String userId) {
         Campaign campaign = new Campaign();
         campaign.setCampaignId("c_" + UUID.randomUUID().toString().replace("-", ""));
         campaign.setTitle(request.getTitle());
-        campaign.setSlug(generateSlug(request.getTitle()));
         campaign.setDescription(request.getDescription());
         campaign.setGoalAmountCents(request.getGoalAmountCents());
         campaign.setCollectedAmountCents(0L);
@@ -42,17 +78,154 @@ public class CampaignService {
         campaign.setUpdatedAt(Instant.now());
         campaign.setMetadata(request.getMetadata());
 
-        Campaign saved = campaignRepository.save(campaign);
-        eventPublisher.publishCampaignCreated(saved);
-        return saved;
+        // The unique slug index is the source of truth; on a clash retry with the next suffix.
+        // Every title without ASCII letters shares the fallback slug, so numbering it would
+        // walk a long, contended sequence; those go straight to the id fragment
+        String baseSlug = SlugGenerator.slugify(request.getTitle());
+        int numberedAttempts = SlugGenerator.FALLBACK.equals(baseSlug) ? 0 : NUMBERED_SLUG_ATTEMPTS;
+        for (int attempt = 1; ; attempt++) {
+            campaign.setSlug(attempt <= numberedAttempts
+                    ? SlugGenerator.withSuffix(baseSlug, attempt)
+                    : baseSlug + "-" + campaign.getCampaignId().substring(2, 10));
+            campaign.setId(null);
+            campaign.setVersion(null);
+            try {
+                Campaign saved = transactions.execute(status -> {
+                    Campaign inserted = campaignRepository.save(campaign);
+                    eventPublisher.publishCampaignCreated(inserted);
+                    return inserted;
+                });
+                slugCache.put(campaign.getSlug(), campaign.getCampaignId());
+                missingCampaigns.invalidate(campaign.getCampaignId());
+                return saved;
+            } catch (DuplicateKeyException e) {
+                if (attempt > numberedAttempts || !isSlugConflict(e)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the duplicate key is on the slug index: read from the key pattern when the
+     * server reports one, otherwise from the index named in the write error.
+     */
+    private static boolean isSlugConflict(DuplicateKeyException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoCommandException command && command.getResponse().isDocument("keyPattern")) {
+                return command.getResponse().getDocument("keyPattern").keySet().equals(Set.of(SLUG_INDEX));
+            }
+            if (cause instanceof MongoWriteException write) {
+                Matcher index = DUPLICATE_KEY_INDEX.matcher(String.valueOf(write.getError().getMessage()));
+                return index.find() && SLUG_INDEX.equals(index.group(1));
+            }
+        }
+        return false;
     }
 
     public Campaign getCampaign(String campaignId) {
-        return campaignRepository.findByCampaignId(campaignId)
-                .orElseThrow(() -> new RuntimeException("Campaign not found: " + campaignId));
+        if (readModel.isReady()) {
+            Optional<Campaign> active = readModel.findByCampaignId(campaignId);
+            if (active.isPresent()) {
+                return active.get();
+            }
+        }
+        if (missingCampaigns.isKnownMissing(campaignId)) {
+            throw new CampaignNotFoundException(campaignId);
+        }
+        // A hot campaign gets one Mongo read at a time; concurrent callers share its result
+        Optional<Campaign> campaign = campaignLoads.execute(campaignId,
+                () -> campaignRepository.findByCampaignId(campaignId));
+        if (campaign.isEmpty()) {
+            missingCampaigns.recordMissing(campaignId);
+            throw new CampaignNotFoundException(campaignId);
+        }
+        return campaign.get();
+    }
+
+    /**
+     * The campaign's current ETag without loading the full document: from the read model
+     * when it holds the campaign, otherwise from a version-only projection.
+     */
+    public Optional<String> getCampaignEtag(String campaignId) {
+        if (readModel.isReady()) {
+            Optional<Campaign> active = readModel.findByCampaignId(campaignId);
+            if (active.isPresent()) {
+                return Optional.of(etag(active.get()));
+            }
+        }
+        return campaignRepository.findVersionByCampaignId(campaignId).map(CampaignService::etag);
+    }
+
+    /**
+     * Weak validator for a campaign representation; every write bumps version and updatedAt.
+     * Weak because {@code viewCount} changes between writes without touching either.
+     */
+    public static String etag(Campaign campaign) {
+        if (campaign.getVersion() != null) {
+            return "W/\"v" + campaign.getVersion() + "\"";
+        }
+        return "W/\"t" + campaign.getUpdatedAt().toEpochMilli() + "\"";
+    }
+
+    /**
+     * Resolves a share-link slug. The slug to campaignId mapping is cached, so repeat
+     * lookups cost one campaignId read (or none when the read model holds the campaign).
+     */
+    public Campaign getCampaignBySlug(String slug) {
+        if (readModel.isReady()) {
+            Optional<Campaign> active = readModel.findBySlug(slug);
+            if (active.isPresent()) {
+                return active.get();
+            }
+        }
+        Optional<String> cachedId = slugCache.get(slug);
+        if (cachedId.isPresent()) {
+            return getCampaign(cachedId.get());
+        }
+        Campaign campaign = campaignRepository.findBySlug(slug)
+                .orElseThrow(() -> new CampaignNotFoundException(slug));
+        slugCache.put(slug, campaign.getCampaignId());
+        return campaign;
+    }
+
+    /**
+     * Looks up several campaigns at once: read-model hits first, then a single
+     * {@code $in} query for the rest. Unknown ids are simply absent from the result.
+     */
+    public Map<String, Campaign> getCampaigns(Collection<String> campaignIds) {
+        Map<String, Campaign> found = new HashMap<>(campaignIds.size() * 2);
+        List<String> remaining = new ArrayList<>(campaignIds.size());
+        for (String campaignId : campaignIds) {
+            Optional<Campaign> active = readModel.isReady() ? readModel.findByCampaignId(campaignId) : Optional.empty();
+            if (active.isPresent()) {
+                found.put(campaignId, active.get());
+            } else if (!missingCampaigns.isKnownMissing(campaignId)) {
+                remaining.add(campaignId);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            for (Campaign campaign : campaignRepository.findByCampaignIdIn(remaining)) {
+                found.put(campaign.getCampaignId(), campaign);
+            }
+            for (String campaignId : remaining) {
+                if (!found.containsKey(campaignId)) {
+                    missingCampaigns.recordMissing(campaignId);
+                }
+            }
+        }
+        return found;
     }
 
     public Page<Campaign> listCampaigns(Pageable pageable, CampaignStatus status, String searchText, String ownerId) {
+        if (searchText == null && readModel.canServe(status, pageable)) {
+            return ownerId != null
+                    ? readModel.findActiveByOwner(ownerId, pageable)
+                    : readModel.findActive(pageable);
+        }
+        if (ownerId != null && status != null) {
+            return campaignRepository.findByOwnerUserIdAndStatus(ownerId, status, pageable);
+        }
         if (ownerId != null) {
             return campaignRepository.findByOwnerUserId(ownerId, pageable);
         }
@@ -66,36 +239,59 @@ public class CampaignService {
     }
 
     public Campaign updateCampaign(String campaignId, UpdateCampaignRequest request, String userId) {
-        Campaign campaign = getCampaign(campaignId);
-        
-        if (!campaign.getOwnerUserId().equals(userId)) {
-            throw new RuntimeException("Not authorized to update this campaign");
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (request.getTitle() != null) changes.put("title", request.getTitle());
+        if (request.getDescription() != null) changes.put("description", request.getDescription());
+        if (request.getStatus() != null) changes.put("status", request.getStatus());
+        if (request.getTags() != null) changes.put("tags", request.getTags());
+        if (request.getVisible() != null) changes.put("visible", request.getVisible());
+        if (request.getEndDate() != null) changes.put("endDate", request.getEndDate());
+        if (request.getMetadata() != null) changes.put("metadata", request.getMetadata());
+        if (changes.isEmpty()) {
+            return unchangedCampaign(campaignId, request, userId);
         }
 
-        if (campaign.getStatus() == CampaignStatus.COMPLETED && request.getStatus() == CampaignStatus.ACTIVE) {
-            throw new RuntimeException("Cannot reactivate completed campaign");
-        }
+        boolean reactivating = request.getStatus() == CampaignStatus.ACTIVE;
 
-        if (request.getTitle() != null) campaign.setTitle(request.getTitle());
-        if (request.getDescription() != null) campaign.setDescription(request.getDescription());
-        if (request.getStatus() != null) campaign.setStatus(request.getStatus());
-        if (request.getTags() != null) campaign.setTags(request.getTags());
-        if (request.getVisible() != null) campaign.setVisible(request.getVisible());
-        if (request.getEndDate() != null) campaign.setEndDate(request.getEndDate());
-        if (request.getMetadata() != null) campaign.setMetadata(request.getMetadata());
-        
-        campaign.setUpdatedAt(Instant.now());
+        // One conditional findAndModify; the document is only read again to explain a miss
+        Campaign updated = transactions.execute(status -> {
+            Optional<Campaign> result = campaignRepository.updateIfMatches(
+                    campaignId, userId, request.getVersion(), reactivating, changes);
+            result.ifPresent(eventPublisher::publishCampaignUpdated);
+            return result.orElse(null);
+        });
+        if (updated != null) {
+            return updated;
+        }
+        throw explainRejectedUpdate(campaignId, request, userId);
+    }
 
-        Campaign updated = campaignRepository.save(campaign);
-        eventPublisher.publishCampaignUpdated(updated);
-        return updated;
+    // An update with no fields neither bumps the version nor publishes an event, but is checked
+    // like a real one so it cannot be used to read another owner's campaign
+    private Campaign unchangedCampaign(String campaignId, UpdateCampaignRequest request, String userId) {
+        Campaign campaign = campaignRepository.findByCampaignId(campaignId)
+                .orElseThrow(() -> new CampaignNotFoundException(campaignId));
+        if (!campaign.getOwnerUserId().equals(userId)) {
+            throw new RuntimeException("Not authorized to update this campaign");
+        }
+        if (request.getVersion() != null && !request.getVersion().equals(campaign.getVersion())) {
+            throw new CampaignConflictException(campaignId, campaign.getVersion());
+        }
+        return campaign;
     }
 
-    private String generateSlug(String title) {
-        return title.toLowerCase()
-                .replaceAll("[^a-z0-9\\s-]", "")
-                .replaceAll("\\s+", "-")
-                .replaceAll("-+", "-")
-                .replaceAll("^-|-$", "");
+    private RuntimeException explainRejectedUpdate(String campaignId, UpdateCampaignRequest request, String userId) {
+        Optional<Campaign> current = campaignRepository.findByCampaignId(campaignId);
+        if (current.isEmpty()) {
+            return new CampaignNotFoundException(campaignId);
+        }
+        Campaign campaign = current.get();
+        if (!campaign.getOwnerUserId().equals(userId)) {
+            return new RuntimeException("Not authorized to update this campaign");
+        }
+        if (campaign.getStatus() == CampaignStatus.COMPLETED && request.getStatus() == CampaignStatus.ACTIVE) {
+            return new RuntimeException("Cannot reactivate completed campaign");
+        }
+        return new CampaignConflictException(campaignId, campaign.getVersion());
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.fundraising.campaign.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Slug to campaignId lookups for share links. Slugs never change once assigned, so
+ * entries are only evicted for size or idleness, never invalidated.
+ */
+@Component
+public class CampaignSlugCache {
+    private final Cache<String, String> campaignIdBySlug;
+
+    public CampaignSlugCache(
+            MeterRegistry meterRegistry,
+            @Value("${campaign.slug-cache.max-size:100000}") long maxSize,
+            @Value("${campaign.slug-cache.expire-after-access:1h}") Duration expireAfterAccess) {
+        this.campaignIdBySlug = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, campaignIdBySlug, "campaign.slug");
+    }
+
+    public Optional<String> get(String slug) {
+        return Optional.ofNullable(campaignIdBySlug.getIfPresent(slug));
+    }
+
+    public void put(String slug, String campaignId) {
+        campaignIdBySlug.put(slug, campaignId);
+    }
+
+    public void evict(String slug) {
+        campaignIdBySlug.invalidate(slug);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fundraising.campaign.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Remembers campaignIds that Mongo recently reported as missing, so repeated lookups
+ * of unknown ids are answered without a query. Entries expire after a short TTL since
+ * another replica may create the campaign; local creates invalidate immediately.
+ */
+@Component
+public class MissingCampaignCache {
+    private final Cache<String, Boolean> missingIds;
+
+    public MissingCampaignCache(
+            MeterRegistry meterRegistry,
+            @Value("${campaign.negative-cache.max-size:50000}") long maxSize,
+            @Value("${campaign.negative-cache.ttl:30s}") Duration ttl) {
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, missingIds, "campaign.missing");
+    }
+
+    public boolean isKnownMissing(String campaignId) {
+        return missingIds.getIfPresent(campaignId) != null;
+    }
+
+    public void recordMissing(String campaignId) {
+        missingIds.put(campaignId, Boolean.TRUE);
+    }
+
+    public void invalidate(String campaignId) {
+        missingIds.invalidate(campaignId);
+    }
+}
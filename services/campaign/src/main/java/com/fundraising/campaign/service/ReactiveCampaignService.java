@@ -0,0 +1,63 @@
+package com.fundraising.campaign.service;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.domain.CampaignStatus;
+import com.fundraising.campaign.exception.CampaignNotFoundException;
+import com.fundraising.campaign.readmodel.ActiveCampaignReadModel;
+import com.fundraising.campaign.repository.ReactiveCampaignRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of the read side of {@link CampaignService}, used by the
+ * {@code reactive} profile. Mirrors its query selection so both paths return the
+ * same results.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveCampaignService {
+    private final ReactiveCampaignRepository campaignRepository;
+    private final ActiveCampaignReadModel readModel;
+
+    public ReactiveCampaignService(ReactiveCampaignRepository campaignRepository, ActiveCampaignReadModel readModel) {
+        this.campaignRepository = campaignRepository;
+        this.readModel = readModel;
+    }
+
+    public Mono<Campaign> getCampaign(String campaignId) {
+        if (readModel.isReady()) {
+            Optional<Campaign> active = readModel.findByCampaignId(campaignId);
+            if (active.isPresent()) {
+                return Mono.just(active.get());
+            }
+        }
+        return campaignRepository.findByCampaignId(campaignId)
+                .switchIfEmpty(Mono.error(() -> new CampaignNotFoundException(campaignId)));
+    }
+
+    public Flux<Campaign> listCampaigns(Pageable pageable, CampaignStatus status, String searchText, String ownerId) {
+        if (searchText == null && readModel.canServe(status, pageable)) {
+            return Flux.fromIterable(ownerId != null
+                    ? readModel.findActiveByOwner(ownerId, pageable).getContent()
+                    : readModel.findActive(pageable).getContent());
+        }
+        if (ownerId != null && status != null) {
+            return campaignRepository.findByOwnerUserIdAndStatus(ownerId, status, pageable);
+        }
+        if (ownerId != null) {
+            return campaignRepository.findByOwnerUserId(ownerId, pageable);
+        }
+        if (searchText != null && status != null) {
+            return campaignRepository.findByTextSearchAndStatus(searchText, status, pageable);
+        }
+        if (status != null) {
+            return campaignRepository.findByStatus(status, pageable);
+        }
+        return campaignRepository.findAllBy(pageable);
+    }
+}
@@ -0,0 +1,71 @@
+package com.fundraising.campaign.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one. The first caller for a key runs
+ * the loader; callers arriving while it is in flight wait for and share its result
+ * (or its exception). Nothing is cached once the load completes.
+ *
+ * <p>Coalescing ratio: {@code <name>{role="follower"} / sum(<name>)}.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public SingleFlight(MeterRegistry meterRegistry, String name) {
+        this.leaders = Counter.builder(name)
+                .description("Loads by role: leaders ran the loader, followers shared an in-flight load")
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder(name)
+                .description("Loads by role: leaders ran the loader, followers shared an in-flight load")
+                .tag("role", "follower")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize(name + ".in_flight", Tags.empty(), inFlight);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            followers.increment();
+            return await(existing);
+        }
+        leaders.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
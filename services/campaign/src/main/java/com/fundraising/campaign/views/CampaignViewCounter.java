@@ -0,0 +1,116 @@
+package com.fundraising.campaign.views;
+
+import com.fundraising.campaign.domain.Campaign;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind view counts. Reads bump a per-campaign {@link LongAdder} in memory; every
+ * {@code campaign.views.flush-interval-ms} the accumulated deltas go to Mongo as one
+ * unordered bulk of {@code $inc viewCount}. A crash loses at most one interval of views.
+ *
+ * <p>The flush touches neither {@code version} nor {@code updatedAt}: views are not an edit,
+ * so they must not invalidate ETags or make concurrent owner updates conflict.
+ */
+@Component
+public class CampaignViewCounter {
+    private static final Logger logger = LoggerFactory.getLogger(CampaignViewCounter.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final Timer flushLatency;
+    private final Counter flushedViews;
+    private final Counter flushFailures;
+
+    public CampaignViewCounter(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${campaign.views.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.flushLatency = Timer.builder("campaign.views.flush").register(meterRegistry);
+        this.flushedViews = Counter.builder("campaign.views.flushed")
+                .description("Views written to Mongo")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("campaign.views.flush.failures").register(meterRegistry);
+        meterRegistry.gaugeMapSize("campaign.views.pending.campaigns", Tags.empty(), pending);
+    }
+
+    public void recordView(String campaignId) {
+        if (enabled) {
+            pending.computeIfAbsent(campaignId, id -> new LongAdder()).increment();
+        }
+    }
+
+    /** Views recorded on this instance that have not been flushed yet. */
+    public long pendingViews(String campaignId) {
+        LongAdder adder = pending.get(campaignId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${campaign.views.flush-interval-ms:10000}")
+    public void flush() {
+        Map<String, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Campaign.class);
+            deltas.forEach((campaignId, delta) -> bulk.updateOne(
+                    Query.query(Criteria.where("campaignId").is(campaignId)),
+                    new Update().inc("viewCount", delta)));
+            bulk.execute();
+            flushedViews.increment(deltas.values().stream().mapToLong(Long::longValue).sum());
+        } catch (Exception e) {
+            flushFailures.increment();
+            logger.warn("Failed to flush views for {} campaigns, keeping them for the next flush", deltas.size(), e);
+            deltas.forEach((campaignId, delta) ->
+                    pending.computeIfAbsent(campaignId, id -> new LongAdder()).add(delta));
+        } finally {
+            flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Map<String, Long> drain() {
+        Map<String, Long> deltas = new HashMap<>();
+        pending.forEach((campaignId, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                // Subtract what we took rather than reset, so concurrent increments survive
+                adder.add(-delta);
+                deltas.put(campaignId, delta);
+            } else {
+                // Idle since the last flush; an increment racing this removal can be lost
+                pending.remove(campaignId, adder);
+            }
+        });
+        return deltas;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
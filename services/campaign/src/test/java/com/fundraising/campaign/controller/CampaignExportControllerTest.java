@@ -0,0 +1,83 @@
+package com.fundraising.campaign.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.service.CampaignExportService;
+import com.fundraising.campaign.views.CampaignViewCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignExportControllerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private CampaignViewCounter viewCounter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        CampaignExportController controller = new CampaignExportController(
+                new CampaignExportService(mongoTemplate), new CampaignResponseMapper(viewCounter), objectMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void export_ShouldRejectMalformedResumeTokenBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/campaigns/export").param("resumeAfter", "not a token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid resume token"));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void export_ShouldEndWithTokenThatResumesAfterTheLastCampaign() throws Exception {
+        Campaign campaign = new Campaign();
+        campaign.setCampaignId("c_1");
+        campaign.setUpdatedAt(Instant.parse("2025-03-01T10:15:30Z"));
+        when(mongoTemplate.stream(any(Query.class), eq(Campaign.class))).thenReturn(Stream.of(campaign));
+
+        MvcResult started = mockMvc.perform(get("/campaigns/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"campaignId\":\"c_1\""));
+        String token = new ObjectMapper().readTree(lines[1]).get("resumeToken").asText();
+
+        // The token from one export is accepted as the starting point of the next
+        mockMvc.perform(get("/campaigns/export").param("resumeAfter", token))
+                .andExpect(request().asyncStarted());
+    }
+}
@@ -0,0 +1,104 @@
+package com.fundraising.campaign.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static KeyPair signingKey;
+    private static KeyPair otherKey;
+
+    private JwksTestServer jwksServer;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        signingKey = JwksTestServer.generateKeyPair();
+        otherKey = JwksTestServer.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwksServer = new JwksTestServer(Map.of("k1", signingKey));
+        JwksKeyResolver resolver = new JwksKeyResolver(jwksServer.uri(), Duration.ofMinutes(5),
+                Duration.ofSeconds(2), Duration.ofSeconds(2));
+        filter = new JwtAuthenticationFilter(resolver, new ObjectMapper());
+        request = new MockHttpServletRequest("GET", "/campaigns/c_1");
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.close();
+    }
+
+    @Test
+    void doFilter_ShouldExposeVerifiedSubjectAsUserId() throws Exception {
+        request.addHeader("X-User-Id", "u_attacker");
+        request.addHeader("Authorization", "Bearer "
+                + JwksTestServer.sign("k1", signingKey.getPrivate(), "u_1", Instant.now().plusSeconds(300)));
+
+        filter.doFilter(request, response, chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertNotNull(forwarded);
+        assertEquals("u_1", forwarded.getHeader("X-User-Id"));
+        assertEquals(Collections.singletonList("u_1"), Collections.list(forwarded.getHeaders("X-User-Id")));
+    }
+
+    @Test
+    void doFilter_ShouldRejectTokenSignedWithAnotherKey() throws Exception {
+        request.addHeader("Authorization", "Bearer "
+                + JwksTestServer.sign("k1", otherKey.getPrivate(), "u_1", Instant.now().plusSeconds(300)));
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("UNAUTHORIZED"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRejectExpiredToken() throws Exception {
+        request.addHeader("Authorization", "Bearer "
+                + JwksTestServer.sign("k1", signingKey.getPrivate(), "u_1", Instant.now().minusSeconds(60)));
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldStripClientUserIdWithoutToken() throws Exception {
+        request.addHeader("X-User-Id", "u_attacker");
+
+        filter.doFilter(request, response, chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertNotNull(forwarded);
+        assertNull(forwarded.getHeader("X-User-Id"));
+        assertFalse(forwarded.getHeaders("X-User-Id").hasMoreElements());
+        assertFalse(Collections.list(forwarded.getHeaderNames()).stream().anyMatch("X-User-Id"::equalsIgnoreCase));
+        assertEquals(0, jwksServer.fetches());
+    }
+}
@@ -0,0 +1,91 @@
+package com.fundraising.campaign.service;
+
+import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.event.EventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignExpiryJobTest {
+    private static final String LOCK_KEY = "campaign:expiry:lock";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CampaignExpiryJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new CampaignExpiryJob(mongoTemplate, redisTemplate, eventPublisher,
+                TransactionOperations.withoutTransaction(), meterRegistry, 500, 20, Duration.ofMinutes(5));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void expireCampaigns_ShouldSkipRunWhileAnotherReplicaHoldsTheLock() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(Duration.ofMinutes(5)))).thenReturn(false);
+
+        job.expireCampaigns();
+
+        verifyNoInteractions(mongoTemplate);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        assertEquals(1.0, meterRegistry.get("campaign.expiry.skipped").tag("reason", "locked").counter().count());
+    }
+
+    @Test
+    void expireCampaigns_ShouldReleaseOnlyItsOwnLockAfterRun() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(Duration.ofMinutes(5)))).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Campaign.class))).thenReturn(List.of());
+
+        job.expireCampaigns();
+
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(LOCK_KEY), owner.capture(), eq(Duration.ofMinutes(5)));
+        // The release script deletes the key only if it still holds this run's owner token
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(owner.getValue()));
+    }
+
+    @Test
+    void expireCampaigns_ShouldReleaseLockWhenRunFails() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(Duration.ofMinutes(5)))).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Campaign.class))).thenThrow(new IllegalStateException("mongo down"));
+
+        job.expireCampaigns();
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+        assertEquals(1.0, meterRegistry.get("campaign.expiry.failures").counter().count());
+        verifyNoInteractions(eventPublisher);
+    }
+}
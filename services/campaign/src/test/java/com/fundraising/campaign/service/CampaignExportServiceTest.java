@@ -0,0 +1,37 @@
+package com.fundraising.campaign.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CampaignExportServiceTest {
+
+    @Test
+    void resumeToken_ShouldRoundTripPosition() {
+        Instant updatedAt = Instant.parse("2025-03-01T10:15:30.123Z");
+
+        String token = CampaignExportService.encode(updatedAt, "c_0f3a:9b");
+        CampaignExportService.ResumePosition position = CampaignExportService.decode(token);
+
+        assertEquals(updatedAt, position.updatedAt());
+        // Only the first separator splits, so ids may contain ':'
+        assertEquals("c_0f3a:9b", position.campaignId());
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "token must be URL-safe: " + token);
+    }
+
+    @Test
+    void resumeToken_ShouldRejectMalformedTokens() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("1700000000000".getBytes(StandardCharsets.UTF_8));
+        String notANumber = Base64.getUrlEncoder().encodeToString("yesterday:c_1".getBytes(StandardCharsets.UTF_8));
+
+        for (String token : new String[] {"not base64!", noSeparator, notANumber, ""}) {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> new CampaignExportService(null).validateResumeToken(token), token);
+            assertEquals("Invalid resume token", ex.getMessage());
+        }
+    }
+}
@@ -1,19 +1,36 @@
 package com.fundraising.campaign.service;
 
 import com.fundraising.campaign.domain.Campaign;
+import com.fundraising.campaign.domain.CampaignStatus;
 import com.fundraising.campaign.dto.CreateCampaignRequest;
+import com.fundraising.campaign.dto.UpdateCampaignRequest;
 import com.fundraising.campaign.event.EventPublisher;
+import com.fundraising.campaign.exception.CampaignConflictException;
+import com.fundraising.campaign.exception.CampaignNotFoundException;
+import com.fundraising.campaign.readmodel.ActiveCampaignReadModel;
 import com.fundraising.campaign.repository.CampaignRepository;
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionOperations;
 
 // import java.time.Instant;
+import java.time.Duration;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,9 +42,20 @@ class CampaignServiceTest {
     @Mock
     private EventPublisher eventPublisher;
 
-    @InjectMocks
+    @Mock
+    private ActiveCampaignReadModel readModel;
+
     private CampaignService campaignService;
 
+    @BeforeEach
+    void setUp() {
+        campaignService = new CampaignService(campaignRepository, eventPublisher,
+                TransactionOperations.withoutTransaction(), readModel,
+                new CampaignSlugCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)),
+                new MissingCampaignCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)),
+                new SimpleMeterRegistry());
+    }
+
     @Test
     void createCampaign_ShouldCreateAndPublishEvent() {
         CreateCampaignRequest request = new CreateCampaignRequest();
@@ -49,4 +77,127 @@ class CampaignServiceTest {
         verify(campaignRepository).save(any(Campaign.class));
         verify(eventPublisher).publishCampaignCreated(savedCampaign);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createCampaign_ShouldSuffixSlugWhenTitleIsTaken() {
+        CreateCampaignRequest request = new CreateCampaignRequest();
+        request.setTitle("  Help  Flood -- Victims! ");
+        request.setGoalAmountCents(100000L);
+        request.setCurrency("BDT");
+
+        when(campaignRepository.save(any(Campaign.class)))
+                .thenThrow(duplicateKey("slug", "{ slug: \"help-flood-victims\" }"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Campaign result = campaignService.createCampaign(request, "user123");
+
+        assertEquals("help-flood-victims-2", result.getSlug());
+        verify(campaignRepository, times(2)).save(any(Campaign.class));
+        verify(eventPublisher).publishCampaignCreated(result);
+    }
+
+    @Test
+    void createCampaign_ShouldGiveFallbackSlugAnIdFragmentStraightAway() {
+        CreateCampaignRequest request = new CreateCampaignRequest();
+        request.setTitle("বন্যার্তদের সাহায্য");
+        request.setGoalAmountCents(100000L);
+        request.setCurrency("BDT");
+
+        when(campaignRepository.save(any(Campaign.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Campaign result = campaignService.createCampaign(request, "user123");
+
+        assertEquals("campaign-" + result.getCampaignId().substring(2, 10), result.getSlug());
+        verify(campaignRepository, times(1)).save(any(Campaign.class));
+    }
+
+    @Test
+    void createCampaign_ShouldNotRetryDuplicateOnAnotherIndex() {
+        CreateCampaignRequest request = new CreateCampaignRequest();
+        request.setTitle("School Meals");
+        request.setGoalAmountCents(100000L);
+        request.setCurrency("BDT");
+
+        when(campaignRepository.save(any(Campaign.class)))
+                .thenThrow(duplicateKey("campaignId", "{ campaignId: \"c_0f3a9b12\" }"));
+
+        assertThrows(DuplicateKeyException.class, () -> campaignService.createCampaign(request, "user123"));
+        verify(campaignRepository, times(1)).save(any(Campaign.class));
+        verify(eventPublisher, never()).publishCampaignCreated(any());
+    }
+
+    @Test
+    void updateCampaign_ShouldRejectStaleVersionWithConflict() {
+        UpdateCampaignRequest request = new UpdateCampaignRequest();
+        request.setTitle("New Title");
+        request.setVersion(2L);
+
+        Campaign current = new Campaign();
+        current.setCampaignId("c_123");
+        current.setOwnerUserId("user123");
+        current.setStatus(CampaignStatus.ACTIVE);
+        current.setVersion(3L);
+
+        when(campaignRepository.updateIfMatches(eq("c_123"), eq("user123"), eq(2L), eq(false), anyMap()))
+                .thenReturn(Optional.empty());
+        when(campaignRepository.findByCampaignId("c_123")).thenReturn(Optional.of(current));
+
+        CampaignConflictException ex = assertThrows(CampaignConflictException.class,
+                () -> campaignService.updateCampaign("c_123", request, "user123"));
+
+        assertEquals(Long.valueOf(3L), ex.getCurrentVersion());
+        verify(eventPublisher, never()).publishCampaignUpdated(any());
+    }
+
+    @Test
+    void updateCampaign_ShouldReturnCurrentDocumentWithoutWritingWhenNothingChanges() {
+        UpdateCampaignRequest request = new UpdateCampaignRequest();
+        request.setVersion(3L);
+
+        Campaign current = new Campaign();
+        current.setCampaignId("c_123");
+        current.setOwnerUserId("user123");
+        current.setStatus(CampaignStatus.ACTIVE);
+        current.setVersion(3L);
+
+        when(campaignRepository.findByCampaignId("c_123")).thenReturn(Optional.of(current));
+
+        Campaign result = campaignService.updateCampaign("c_123", request, "user123");
+
+        assertSame(current, result);
+        verify(campaignRepository, never()).updateIfMatches(any(), any(), any(), anyBoolean(), anyMap());
+        verify(eventPublisher, never()).publishCampaignUpdated(any());
+    }
+
+    @Test
+    void updateCampaign_ShouldRejectEmptyUpdateFromAnotherOwner() {
+        Campaign current = new Campaign();
+        current.setCampaignId("c_123");
+        current.setOwnerUserId("owner");
+        current.setVersion(3L);
+
+        when(campaignRepository.findByCampaignId("c_123")).thenReturn(Optional.of(current));
+
+        assertThrows(RuntimeException.class,
+                () -> campaignService.updateCampaign("c_123", new UpdateCampaignRequest(), "someone-else"));
+        verify(campaignRepository, never()).updateIfMatches(any(), any(), any(), anyBoolean(), anyMap());
+    }
+
+    @Test
+    void getCampaign_ShouldAnswerRepeatedMissesFromNegativeCache() {
+        when(campaignRepository.findByCampaignId("c_missing")).thenReturn(Optional.empty());
+
+        assertThrows(CampaignNotFoundException.class, () -> campaignService.getCampaign("c_missing"));
+        assertThrows(CampaignNotFoundException.class, () -> campaignService.getCampaign("c_missing"));
+
+        verify(campaignRepository, times(1)).findByCampaignId("c_missing");
+    }
+
+    // Shaped like the translation of a server E11000 write error
+    private static DuplicateKeyException duplicateKey(String index, String dupKey) {
+        String message = "E11000 duplicate key error collection: fundraising.campaigns index: "
+                + index + " dup key: " + dupKey;
+        return new DuplicateKeyException(message,
+                new MongoWriteException(new WriteError(11000, message, new BsonDocument()), new ServerAddress()));
+    }
+}
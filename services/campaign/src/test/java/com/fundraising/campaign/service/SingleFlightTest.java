@@ -0,0 +1,73 @@
+package com.fundraising.campaign.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_ShouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight<String, String> flight = new SingleFlight<>(registry, "test.loads");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<String> leader = pool.submit(() -> flight.execute("c_1", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "value";
+            }));
+            // Let the leader register before the followers arrive
+            while (registry.counter("test.loads", "role", "leader").count() < 1) {
+                Thread.onSpinWait();
+            }
+            Future<?>[] followers = new Future<?>[7];
+            for (int i = 0; i < followers.length; i++) {
+                followers[i] = pool.submit(() -> flight.execute("c_1", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                }));
+            }
+            while (registry.counter("test.loads", "role", "follower").count() < followers.length) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+            for (Future<?> follower : followers) {
+                assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldNotCacheAfterTheLoadCompletes() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(new SimpleMeterRegistry(), "test.loads");
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("c_1", loads::incrementAndGet);
+        assertEquals(2, flight.execute("c_1", loads::incrementAndGet));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
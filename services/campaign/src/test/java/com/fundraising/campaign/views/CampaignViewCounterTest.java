@@ -0,0 +1,109 @@
+package com.fundraising.campaign.views;
+
+import com.fundraising.campaign.domain.Campaign;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignViewCounterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulk;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CampaignViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewCounter = new CampaignViewCounter(mongoTemplate, meterRegistry, true);
+    }
+
+    @Test
+    void flush_ShouldDrainPendingViewsIntoOneBulkOfIncrements() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Campaign.class)).thenReturn(bulk);
+        viewCounter.recordView("c_1");
+        viewCounter.recordView("c_1");
+        viewCounter.recordView("c_1");
+        viewCounter.recordView("c_2");
+
+        viewCounter.flush();
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(2)).updateOne(queries.capture(), updates.capture());
+        verify(bulk).execute();
+        Map<String, Object> increments = new HashMap<>();
+        for (int i = 0; i < 2; i++) {
+            Document inc = (Document) updates.getAllValues().get(i).getUpdateObject().get("$inc");
+            increments.put(queries.getAllValues().get(i).getQueryObject().getString("campaignId"), inc.get("viewCount"));
+        }
+        assertEquals(Map.of("c_1", 3L, "c_2", 1L), increments);
+        assertEquals(0, viewCounter.pendingViews("c_1"));
+        assertEquals(0, viewCounter.pendingViews("c_2"));
+        assertEquals(4.0, meterRegistry.get("campaign.views.flushed").counter().count());
+    }
+
+    @Test
+    void flush_ShouldKeepCountsOfAFailedFlushForTheNextOne() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Campaign.class)).thenReturn(bulk);
+        when(bulk.execute()).thenThrow(new IllegalStateException("mongo down")).thenReturn(null);
+        viewCounter.recordView("c_1");
+        viewCounter.recordView("c_1");
+
+        viewCounter.flush();
+
+        assertEquals(2, viewCounter.pendingViews("c_1"));
+        assertEquals(1.0, meterRegistry.get("campaign.views.flush.failures").counter().count());
+
+        // Views recorded in between are added on top, and the retry writes the total
+        viewCounter.recordView("c_1");
+        viewCounter.flush();
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(2)).updateOne(any(Query.class), updates.capture());
+        Document retried = (Document) updates.getAllValues().get(1).getUpdateObject().get("$inc");
+        assertEquals(3L, retried.get("viewCount"));
+        assertEquals(0, viewCounter.pendingViews("c_1"));
+        assertEquals(3.0, meterRegistry.get("campaign.views.flushed").counter().count());
+    }
+
+    @Test
+    void flush_ShouldNotTouchMongoWithoutViews() {
+        viewCounter.flush();
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void recordView_ShouldDoNothingWhenDisabled() {
+        CampaignViewCounter disabled = new CampaignViewCounter(mongoTemplate, new SimpleMeterRegistry(), false);
+
+        disabled.recordView("c_1");
+        disabled.flush();
+
+        assertEquals(0, disabled.pendingViews("c_1"));
+        verify(mongoTemplate, never()).bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Campaign.class));
+    }
+}
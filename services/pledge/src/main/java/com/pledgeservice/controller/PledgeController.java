@@ -4,10 +4,13 @@ import com.pledgeservice.dto.CreatePledgeRequest;
 import com.pledgeservice.dto.PledgeDto;
 import com.pledgeservice.service.PledgeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/pledges")
@@ -17,15 +20,29 @@ public class PledgeController {
     private PledgeService pledgeService;
 
     @PostMapping("/recurring")
-    public ResponseEntity<PledgeDto> createRecurring(@RequestBody CreatePledgeRequest request) {
+    public ResponseEntity<PledgeDto> createRecurring(
+            @RequestBody CreatePledgeRequest request,
+            @RequestHeader(value = "X-User-Id", required = false) String userId) {
+        // Prefer the authenticated user over whatever the body claims
+        if (userId != null) {
+            request.setUserId(userId);
+        }
         PledgeDto pledge = pledgeService.createRecurring(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(pledge);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PledgeDto> getPledge(@PathVariable String id) {
+    public ResponseEntity<PledgeDto> getPledge(@PathVariable String id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> etag = pledgeService.getPledgeEtag(id);
+            if (etag.isPresent() && request.checkNotModified(etag.get())) {
+                return null;
+            }
+        }
         PledgeDto pledge = pledgeService.getPledge(id);
-        return ResponseEntity.ok(pledge);
+        return ResponseEntity.ok()
+            .eTag(PledgeService.etag(pledge.getUpdatedAt()))
+            .body(pledge);
     }
 
     @GetMapping("/history/{userId}")
@@ -6,11 +6,16 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PledgeRepository extends MongoRepository<Pledge, String> {
     
     List<Pledge> findByUserIdOrderByCreatedAtDesc(String userId);
+
+    // Only updatedAt, for answering conditional GETs
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'updatedAt': 1 }")
+    Optional<Pledge> findUpdatedAtById(String id);
     
     @Query("{ 'status': 'ACTIVE', 'nextPaymentDate': { $lte: ?0 } }")
     List<Pledge> findDuePledges(Instant currentDate);
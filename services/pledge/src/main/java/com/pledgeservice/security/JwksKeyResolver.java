@@ -0,0 +1,129 @@
+package com.pledgeservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves RS256 verification keys by kid from the auth service JWKS, cached and
+ * refreshed periodically or when an unknown kid shows up (rate-limited).
+ */
+@Component
+@ConditionalOnProperty(name = "auth.jwt.enabled", havingValue = "true")
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+    private static final long MIN_REFRESH_NANOS = Duration.ofSeconds(10).toNanos();
+
+    @Value("${auth.jwt.jwks-uri}")
+    private String jwksUri;
+
+    @Value("${auth.jwt.jwks-refresh:5m}")
+    private Duration refreshInterval;
+
+    @Value("${auth.jwt.jwks-connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${auth.jwt.jwks-read-timeout:2s}")
+    private Duration readTimeout;
+
+    private RestClient restClient;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long fetchedAtNanos;
+    private volatile boolean fetched;
+
+    // Unknown-kid refreshes block request threads on refreshLock, so the fetch is bounded
+    @PostConstruct
+    void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        if (!"RS256".equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Only RS256 tokens can be verified locally");
+        }
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new UnsupportedJwtException("Token has no key id");
+        }
+        if (!fetched || System.nanoTime() - fetchedAtNanos > refreshInterval.toNanos()) {
+            refresh(false);
+        }
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            refresh(true);
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key " + kid);
+        }
+        return key;
+    }
+
+    private void refresh(boolean waitForLock) {
+        if (waitForLock || keys.isEmpty()) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (fetched && System.nanoTime() - fetchedAtNanos < MIN_REFRESH_NANOS) {
+                return;
+            }
+            try {
+                Map<String, Object> jwks = restClient.get()
+                        .uri(jwksUri)
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+                keys = parse(jwks);
+                System.out.println("Loaded " + keys.size() + " JWT verification keys from " + jwksUri);
+            } catch (Exception e) {
+                System.err.println("Failed to refresh JWKS from " + jwksUri + ": " + e.getMessage());
+            }
+            fetchedAtNanos = System.nanoTime();
+            fetched = true;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, PublicKey> parse(Map<String, Object> jwks) throws Exception {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        for (Map<String, Object> jwk : (List<Map<String, Object>>) jwks.getOrDefault("keys", List.of())) {
+            if (!"RSA".equals(jwk.get("kty"))) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, decoder.decode((String) jwk.get("n")));
+            BigInteger exponent = new BigInteger(1, decoder.decode((String) jwk.get("e")));
+            parsed.put((String) jwk.get("kid"), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return Map.copyOf(parsed);
+    }
+}
@@ -0,0 +1,98 @@
+package com.pledgeservice.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Verifies Bearer tokens locally with the auth service JWKS and exposes the token
+ * subject as X-User-Id. A client-supplied X-User-Id is always discarded.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.jwt.enabled", havingValue = "true")
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    public static final String USER_ID_HEADER = "X-User-Id";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private JwksKeyResolver keyResolver;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyResolver)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            chain.doFilter(new VerifiedUserRequest(request, null), response);
+            return;
+        }
+        String userId;
+        try {
+            userId = parser.parseClaimsJws(authorization.substring(BEARER_PREFIX.length())).getBody().getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Invalid or expired token\"}");
+            return;
+        }
+        chain.doFilter(new VerifiedUserRequest(request, userId), response);
+    }
+
+    private static final class VerifiedUserRequest extends HttpServletRequestWrapper {
+        private final String userId;
+
+        VerifiedUserRequest(HttpServletRequest request, String userId) {
+            super(request);
+            this.userId = userId;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return USER_ID_HEADER.equalsIgnoreCase(name) ? userId : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (USER_ID_HEADER.equalsIgnoreCase(name)) {
+                return userId == null ? Collections.emptyEnumeration() : Collections.enumeration(List.of(userId));
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames());
+            names.removeIf(USER_ID_HEADER::equalsIgnoreCase);
+            if (userId != null) {
+                names.add(USER_ID_HEADER);
+            }
+            return Collections.enumeration(names);
+        }
+    }
+}
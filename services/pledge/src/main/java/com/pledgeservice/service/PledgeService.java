@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,6 +49,16 @@ public class PledgeService {
         return convertToDto(pledge);
     }
 
+    public Optional<String> getPledgeEtag(String id) {
+        return pledgeRepository.findUpdatedAtById(id)
+            .map(pledge -> etag(pledge.getUpdatedAt()));
+    }
+
+    // Every write sets updatedAt; Mongo keeps millisecond precision, so compare at that
+    public static String etag(Instant updatedAt) {
+        return updatedAt == null ? "0" : String.valueOf(updatedAt.toEpochMilli());
+    }
+
     public List<PledgeDto> getUserPledgeHistory(String userId) {
         return pledgeRepository.findByUserIdOrderByCreatedAtDesc(userId)
             .stream()
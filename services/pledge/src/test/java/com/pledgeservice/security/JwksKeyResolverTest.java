@@ -0,0 +1,111 @@
+package com.pledgeservice.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwksKeyResolverTest {
+
+    private static KeyPair firstKey;
+    private static KeyPair secondKey;
+
+    private JwksTestServer jwksServer;
+    private JwksKeyResolver resolver;
+    private JwtParser parser;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        firstKey = JwksTestServer.generateKeyPair();
+        secondKey = JwksTestServer.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwksServer = new JwksTestServer(Map.of("k1", firstKey));
+        resolver = resolver(jwksServer.uri());
+        parser = Jwts.parserBuilder().setSigningKeyResolver(resolver).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.close();
+    }
+
+    static JwksKeyResolver resolver(String jwksUri) {
+        JwksKeyResolver resolver = new JwksKeyResolver();
+        ReflectionTestUtils.setField(resolver, "jwksUri", jwksUri);
+        ReflectionTestUtils.setField(resolver, "refreshInterval", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(resolver, "connectTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(resolver, "readTimeout", Duration.ofSeconds(2));
+        resolver.init();
+        return resolver;
+    }
+
+    @Test
+    void resolveSigningKey_ShouldVerifyTokenSignedWithPublishedKey() {
+        String token = JwksTestServer.sign("k1", firstKey.getPrivate(), "u_1", Instant.now().plusSeconds(300));
+
+        assertEquals("u_1", parser.parseClaimsJws(token).getBody().getSubject());
+        assertEquals(1, jwksServer.fetches());
+    }
+
+    @Test
+    void resolveSigningKey_ShouldReuseCachedKeys() {
+        String token = JwksTestServer.sign("k1", firstKey.getPrivate(), "u_1", Instant.now().plusSeconds(300));
+
+        parser.parseClaimsJws(token);
+        parser.parseClaimsJws(token);
+
+        assertEquals(1, jwksServer.fetches());
+    }
+
+    @Test
+    void resolveSigningKey_ShouldRefreshJwksForUnknownKid() {
+        parser.parseClaimsJws(JwksTestServer.sign("k1", firstKey.getPrivate(), "u_1", Instant.now().plusSeconds(300)));
+        // The auth service rotates to k2 after the early-refresh rate limit has passed
+        jwksServer.publish(Map.of("k1", firstKey, "k2", secondKey));
+        ReflectionTestUtils.setField(resolver, "fetchedAtNanos", System.nanoTime() - Duration.ofSeconds(11).toNanos());
+
+        String rotated = JwksTestServer.sign("k2", secondKey.getPrivate(), "u_2", Instant.now().plusSeconds(300));
+
+        assertEquals("u_2", parser.parseClaimsJws(rotated).getBody().getSubject());
+        assertEquals(2, jwksServer.fetches());
+    }
+
+    @Test
+    void resolveSigningKey_ShouldRateLimitRefreshesForUnknownKids() {
+        parser.parseClaimsJws(JwksTestServer.sign("k1", firstKey.getPrivate(), "u_1", Instant.now().plusSeconds(300)));
+
+        String forged = JwksTestServer.sign("made-up", secondKey.getPrivate(), "u_1", Instant.now().plusSeconds(300));
+
+        assertThrows(UnsupportedJwtException.class, () -> parser.parseClaimsJws(forged));
+        assertThrows(UnsupportedJwtException.class, () -> parser.parseClaimsJws(forged));
+        assertEquals(1, jwksServer.fetches());
+    }
+
+    @Test
+    void resolveSigningKey_ShouldRejectHs256Tokens() {
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "k1")
+                .setSubject("u_1")
+                .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS256))
+                .compact();
+
+        assertThrows(UnsupportedJwtException.class, () -> parser.parseClaimsJws(token));
+        assertEquals(0, jwksServer.fetches());
+    }
+}
@@ -0,0 +1,97 @@
+package com.pledgeservice.security;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Serves a JWK Set on a local port and counts how often it is fetched. */
+final class JwksTestServer implements AutoCloseable {
+    private final HttpServer server;
+    private final AtomicInteger fetches = new AtomicInteger();
+    private volatile Map<String, KeyPair> keys;
+
+    JwksTestServer(Map<String, KeyPair> keys) throws IOException {
+        this.keys = keys;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            fetches.incrementAndGet();
+            byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    String uri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json";
+    }
+
+    int fetches() {
+        return fetches.get();
+    }
+
+    void publish(Map<String, KeyPair> keys) {
+        this.keys = keys;
+    }
+
+    private String jwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        StringJoiner jwks = new StringJoiner(",", "{\"keys\":[", "]}");
+        keys.forEach((kid, pair) -> {
+            RSAPublicKey key = (RSAPublicKey) pair.getPublic();
+            jwks.add("{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"alg\":\"RS256\",\"n\":\""
+                    + encoder.encodeToString(unsigned(key.getModulus().toByteArray())) + "\",\"e\":\""
+                    + encoder.encodeToString(unsigned(key.getPublicExponent().toByteArray())) + "\"}");
+        });
+        return jwks.toString();
+    }
+
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+
+    static KeyPair generateKeyPair() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    static String sign(String kid, PrivateKey key, String subject, Instant expiresAt) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setSubject(subject)
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(expiresAt))
+                .signWith(key, SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
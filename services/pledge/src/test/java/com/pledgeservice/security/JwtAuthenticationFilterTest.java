@@ -0,0 +1,103 @@
+package com.pledgeservice.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static KeyPair signingKey;
+    private static KeyPair otherKey;
+
+    private JwksTestServer jwksServer;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        signingKey = JwksTestServer.generateKeyPair();
+        otherKey = JwksTestServer.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwksServer = new JwksTestServer(Map.of("k1", signingKey));
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "keyResolver", JwksKeyResolverTest.resolver(jwksServer.uri()));
+        filter.init();
+        request = new MockHttpServletRequest("GET", "/pledges/p_1");
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.close();
+    }
+
+    @Test
+    void doFilter_ShouldExposeVerifiedSubjectAsUserId() throws Exception {
+        request.addHeader("X-User-Id", "u_attacker");
+        request.addHeader("Authorization", "Bearer "
+                + JwksTestServer.sign("k1", signingKey.getPrivate(), "u_1", Instant.now().plusSeconds(300)));
+
+        filter.doFilter(request, response, chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertNotNull(forwarded);
+        assertEquals("u_1", forwarded.getHeader("X-User-Id"));
+        assertEquals(Collections.singletonList("u_1"), Collections.list(forwarded.getHeaders("X-User-Id")));
+    }
+
+    @Test
+    void doFilter_ShouldRejectTokenSignedWithAnotherKey() throws Exception {
+        request.addHeader("Authorization", "Bearer "
+                + JwksTestServer.sign("k1", otherKey.getPrivate(), "u_1", Instant.now().plusSeconds(300)));
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Invalid or expired token"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRejectExpiredToken() throws Exception {
+        request.addHeader("Authorization", "Bearer "
+                + JwksTestServer.sign("k1", signingKey.getPrivate(), "u_1", Instant.now().minusSeconds(60)));
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldStripClientUserIdWithoutToken() throws Exception {
+        request.addHeader("X-User-Id", "u_attacker");
+
+        filter.doFilter(request, response, chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertNotNull(forwarded);
+        assertNull(forwarded.getHeader("X-User-Id"));
+        assertFalse(forwarded.getHeaders("X-User-Id").hasMoreElements());
+        assertFalse(Collections.list(forwarded.getHeaderNames()).stream().anyMatch("X-User-Id"::equalsIgnoreCase));
+        assertEquals(0, jwksServer.fetches());
+    }
+}